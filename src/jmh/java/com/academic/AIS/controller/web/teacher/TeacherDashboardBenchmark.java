@@ -0,0 +1,87 @@
+package com.academic.AIS.controller.web.teacher;
+
+import com.academic.AIS.model.Student;
+import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.model.SubjectAssignment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The in-memory part of the distinct-student count on the teacher dashboard. A teacher typically teaches several
+ * subjects to the same groups, so assignments outnumber groups. The dashboard now only collects group ids and
+ * counts their students in the database; the stream variant hashes every student, as the original
+ * implementation did, and is kept for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeacherDashboardBenchmark {
+
+    @Param({"4", "16"})
+    private int groups;
+
+    @Param({"4"})
+    private int assignmentsPerGroup;
+
+    @Param({"30"})
+    private int studentsPerGroup;
+
+    private List<SubjectAssignment> assignments;
+
+    @Setup
+    public void setUp() {
+        assignments = new ArrayList<>(groups * assignmentsPerGroup);
+        int studentId = 0;
+        for (int g = 0; g < groups; g++) {
+            StudyGroup group = new StudyGroup("G-" + g, 1 + g % 4);
+            group.setGroupId(g + 1);
+            List<Student> students = new ArrayList<>(studentsPerGroup);
+            for (int s = 0; s < studentsPerGroup; s++) {
+                Student student = new Student();
+                student.setStudentId(++studentId);
+                student.setGroup(group);
+                students.add(student);
+            }
+            group.setStudents(students);
+
+            for (int a = 0; a < assignmentsPerGroup; a++) {
+                SubjectAssignment assignment = new SubjectAssignment();
+                assignment.setAssignmentId(g * assignmentsPerGroup + a + 1);
+                assignment.setGroup(group);
+                assignments.add(assignment);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> distinctGroupIds() {
+        return TeacherController.distinctGroupIds(assignments);
+    }
+
+    @Benchmark
+    public int streamOverStudents() {
+        Set<Student> students = assignments.stream()
+                .filter(a -> a != null && a.getGroup() != null && a.getGroup().getStudents() != null)
+                .flatMap(a -> a.getGroup().getStudents().stream())
+                .collect(Collectors.toSet());
+        return students.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.academic.AIS.dto.mapper;
+
+import com.academic.AIS.dto.response.GradeResponse;
+import com.academic.AIS.dto.response.StudentResponse;
+import com.academic.AIS.model.Grade;
+import com.academic.AIS.model.Student;
+import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.model.Subject;
+import com.academic.AIS.model.SubjectAssignment;
+import com.academic.AIS.model.Teacher;
+import com.academic.AIS.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping as done for every row of the grade and student listings. A page is mapped per
+ * invocation so the numbers compare directly with a page request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "50"})
+    private int pageSize;
+
+    private final GradeMapper gradeMapper = new GradeMapper();
+    private final StudentMapper studentMapper = new StudentMapper();
+
+    private List<Grade> grades;
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        StudyGroup group = new StudyGroup("CS-21", 3);
+        group.setGroupId(1);
+
+        Teacher teacher = new Teacher(new User("t.smith", "{noop}x", "TEACHER"), "Tom", "Smith", "t.smith@example.com");
+        teacher.setTeacherId(10);
+
+        Subject subject = new Subject("Databases", "CS301", 5, "Relational databases");
+        subject.setSubjectId(100);
+
+        SubjectAssignment assignment = new SubjectAssignment(subject, teacher, group, "2024/2025", "Fall");
+        assignment.setAssignmentId(1000);
+
+        grades = new ArrayList<>(pageSize);
+        students = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Student student = new Student(new User("student" + i, "{noop}x", "STUDENT"),
+                    "First" + i, "Last" + i, "student" + i + "@example.com");
+            student.setStudentId(10_000 + i);
+            student.setGroup(group);
+            students.add(student);
+
+            Grade grade = new Grade(student, assignment, i % 11, "Comment " + i);
+            grade.setGradeId(100_000 + i);
+            grades.add(grade);
+        }
+    }
+
+    @Benchmark
+    public void gradeToResponse(Blackhole blackhole) {
+        for (Grade grade : grades) {
+            GradeResponse response = gradeMapper.toResponse(grade);
+            blackhole.consume(response);
+        }
+    }
+
+    @Benchmark
+    public void studentToResponse(Blackhole blackhole) {
+        for (Student student : students) {
+            StudentResponse response = studentMapper.toResponse(student);
+            blackhole.consume(response);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.academic.AIS.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing (once per login/refresh) and verification (once per API request on a cache miss).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long!";
+
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // Long expiry so the token stays valid for the whole run
+        tokenProvider = new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(1));
+        accessToken = tokenProvider.generateToken("t.smith", "TEACHER", 10, 10, "Tom Smith");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("t.smith", "TEACHER", 10, 10, "Tom Smith");
+    }
+
+    @Benchmark
+    public JwtClaims parse() {
+        return tokenProvider.parse(accessToken);
+    }
+}
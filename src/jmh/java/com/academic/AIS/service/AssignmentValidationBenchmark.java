@@ -0,0 +1,46 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.exception.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input validation run on every assignment create and update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignmentValidationBenchmark {
+
+    // Fields rather than literals so the JIT cannot fold the inputs
+    private String academicYear = "2024/2025";
+    private String malformedYear = "2024-2025";
+    private String semester = "Spring";
+
+    @Benchmark
+    public void validInput() {
+        AssignmentManagementService.validateAssignmentData(academicYear, semester);
+    }
+
+    @Benchmark
+    public ValidationException malformedYear() {
+        try {
+            AssignmentManagementService.validateAssignmentData(malformedYear, semester);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+}
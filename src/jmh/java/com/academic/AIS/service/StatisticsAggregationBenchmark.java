@@ -0,0 +1,61 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.dto.projection.GradeValueCount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The part of the grade distribution that runs in the application: folding the per-value counts returned by
+ * GradeRepository.countByGradeValue into a histogram and rendering it as the map and percentages the views use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsAggregationBenchmark {
+
+    private List<GradeValueCount> buckets;
+    private StatisticsService.GradeHistogram histogram;
+
+    @Setup
+    public void setUp() {
+        buckets = new ArrayList<>(StatisticsService.GradeHistogram.BUCKETS);
+        for (int value = 0; value < StatisticsService.GradeHistogram.BUCKETS; value++) {
+            buckets.add(new GradeValueCount(value, 1_000L * (value + 1)));
+        }
+        histogram = StatisticsService.toHistogram(buckets);
+    }
+
+    @Benchmark
+    public StatisticsService.GradeHistogram toHistogram() {
+        return StatisticsService.toHistogram(buckets);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> toMap() {
+        return histogram.toMap();
+    }
+
+    @Benchmark
+    public void percentages(Blackhole blackhole) {
+        for (int value = 0; value < StatisticsService.GradeHistogram.BUCKETS; value++) {
+            blackhole.consume(histogram.getPercentage(value));
+        }
+    }
+}
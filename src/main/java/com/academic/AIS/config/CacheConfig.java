@@ -0,0 +1,28 @@
+package com.academic.AIS.config;
+
+import org.springframework.boot.cache.autoconfigure.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine caches for reference data that changes a few times per semester. They hold the flat
+ * summaries from dto.projection, never JPA entities, so nothing lazy or credential-bearing outlives a request.
+ * Sizes and expiry come from spring.cache.caffeine.spec; hit/miss/eviction counts are published
+ * through actuator as cache.gets / cache.evictions.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SUBJECTS = "subjects";
+    public static final String GROUPS = "groups";
+    public static final String TEACHERS = "teachers";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> transactionAwareCacheManager() {
+        // Defer evictions until commit so a concurrent read cannot re-cache uncommitted state
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+}
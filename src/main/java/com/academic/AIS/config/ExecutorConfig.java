@@ -0,0 +1,59 @@
+package com.academic.AIS.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Dedicated thread pools for CPU-heavy work that must not run on request threads unbounded.
+ * These stay platform-thread pools when spring.threads.virtual.enabled is on: their size is what bounds
+ * the CPU spent on hashing, which virtual threads would not.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+    public static final String PASSWORD_VERIFY_EXECUTOR = "passwordVerifyExecutor";
+
+    /**
+     * BCrypt hashing for bulk imports. Threads default to the number of cores; when the queue is full the
+     * submitting thread hashes itself, which throttles the producer instead of failing.
+     */
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${ais.password-hash.threads:0}") int threads,
+            @Value("${ais.password-hash.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Password verification for logins. Unlike imports, a full queue rejects immediately: the login is
+     * answered with 503 and Retry-After instead of tying up more request threads behind the hashing backlog.
+     */
+    @Bean(name = PASSWORD_VERIFY_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordVerifyExecutor(
+            @Value("${ais.password-verify.threads:0}") int threads,
+            @Value("${ais.password-verify.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-verify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.academic.AIS.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import java.time.Duration;
+
+/**
+ * Shared HTTP sessions in PostgreSQL (spring_session tables, changelog 15) for running several nodes without
+ * sticky routing. Active when ais.security.web-session=jdbc.
+ * Only attributes set during a request are written, once at the end of it; unchanged attributes are never
+ * rewritten. Expired sessions are deleted on ais.security.jdbc-session.cleanup-cron.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ais.security.web-session", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class JdbcSessionConfig {
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+            @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout,
+            @Value("${ais.security.jdbc-session.cleanup-cron:0 */10 * * * *}") String cleanupCron) {
+        return repository -> {
+            repository.setDefaultMaxInactiveInterval(sessionTimeout);
+            repository.setFlushMode(FlushMode.ON_SAVE);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+            repository.setCleanupCron(cleanupCron);
+        };
+    }
+}
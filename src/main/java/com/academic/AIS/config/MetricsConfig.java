@@ -0,0 +1,65 @@
+package com.academic.AIS.config;
+
+import com.academic.AIS.service.StatisticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Application metrics on top of what actuator binds by itself (HTTP server requests, Hikari pool gauges
+ * hikaricp.connections.*, Caffeine caches cache.*, Spring Data repository calls spring.data.repository.invocations
+ * and, with hibernate-micrometer, Hibernate statistics hibernate.*).
+ * Adds an {@code ais.service} timer around every public method of the @Service classes in the service package,
+ * tagged with class, method and exception. Disable with ais.metrics.service-timing.enabled=false.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String SERVICE_PACKAGE = StatisticsService.class.getPackageName();
+
+    /**
+     * Infrastructure role so the auto-proxy creator already used for @Transactional picks it up without
+     * AspectJ; ordered first so the timing includes the transaction commit.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = "ais.metrics.service-timing.enabled", havingValue = "true", matchIfMissing = true)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ServiceMethodPointcut(), new ServiceTimingInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    static final class ServiceMethodPointcut extends StaticMethodMatcherPointcut {
+
+        ServiceMethodPointcut() {
+            setClassFilter(ServiceMethodPointcut::isServiceClass);
+        }
+
+        private static boolean isServiceClass(Class<?> clazz) {
+            return clazz.getPackageName().equals(SERVICE_PACKAGE)
+                    && AnnotatedElementUtils.hasAnnotation(clazz, Service.class);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers())
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class;
+        }
+    }
+}
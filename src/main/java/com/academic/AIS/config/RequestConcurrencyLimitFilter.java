@@ -0,0 +1,76 @@
+package com.academic.AIS.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests handled at once. With virtual threads Tomcat no longer caps concurrency
+ * through its thread pool, so without this every request of a burst would start and then queue for one of
+ * the few database connections, failing on the pool timeout. Requests wait a short time for a slot and
+ * are otherwise answered with 503 + Retry-After before any work is done.
+ * <p>
+ * Registered by {@code WebMvcConfig}. Asynchronous dispatches (streamed exports) are not counted again.
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final long retryAfterSeconds;
+
+    public RequestConcurrencyLimitFilter(int maxConcurrent, Duration acquireTimeout, long retryAfterSeconds) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return path.startsWith("/css/") || path.startsWith("/js/") || path.startsWith("/images/")
+                || path.equals("/actuator/health") || path.equals("/actuator/prometheus");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire()) {
+            logger.warn("Request shed, no slot free within {} ms: {} {}",
+                    TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos), request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, please retry shortly");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.academic.AIS.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled housekeeping jobs (expired token purges).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
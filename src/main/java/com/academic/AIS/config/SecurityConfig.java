@@ -1,10 +1,22 @@
 package com.academic.AIS.config;
 
+import com.academic.AIS.security.AuthMetrics;
+import com.academic.AIS.security.CustomAuthenticationFailureHandler;
 import com.academic.AIS.security.CustomAuthenticationSuccessHandler;
+import com.academic.AIS.security.EncryptedCookieSecurityContextRepository;
 import com.academic.AIS.security.JwtAuthenticationFilter;
+import com.academic.AIS.security.LoginThrottle;
+import com.academic.AIS.security.LoginThrottleFilter;
+import com.academic.AIS.security.OffloadingPasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -12,16 +24,25 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,27 +55,47 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
     @Autowired
     private CustomAuthenticationSuccessHandler authenticationSuccessHandler;
 
+    @Autowired
+    private CustomAuthenticationFailureHandler authenticationFailureHandler;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    /**
+     * REST API and actuator: bearer tokens only, never an HTTP session, 401 instead of a login redirect.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${ais.security.prometheus-public:false}") boolean prometheusPublic) throws Exception {
+        // The Prometheus endpoint is only opened for scrapers on a private network; otherwise it is admin-only
+        String[] publicActuatorEndpoints = prometheusPublic
+                ? new String[]{"/actuator/health", "/actuator/info", "/actuator/prometheus"}
+                : new String[]{"/actuator/health", "/actuator/info"};
+
         http
+                .securityMatcher("/api/**", "/actuator/**")
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
 
                 .sessionManagement(session ->
-                        session.sessionCreationPolicy(SessionCreationPolicy.ALWAYS))
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.disable())
 
                 .authorizeHttpRequests(auth -> auth
-
                         .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
-                        .requestMatchers("/login", "/", "/css/**", "/js/**", "/images/**").permitAll()
-
-                        .requestMatchers("/admin/**", "/teacher/**", "/student/**").authenticated()
-                        .requestMatchers("/logout").authenticated()
+                        .requestMatchers(publicActuatorEndpoints).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMINISTRATOR")
 
                         .requestMatchers("/api/admin/**").hasRole("ADMINISTRATOR")
                         .requestMatchers("/api/teacher/**").hasRole("TEACHER")
@@ -63,6 +104,47 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Thymeleaf UI with form login. ais.security.web-session selects where the login is kept: "server"
+     * (HTTP session, the default), "jdbc" (HTTP session stored in PostgreSQL, see JdbcSessionConfig) or
+     * "cookie" (encrypted cookie, no server-side session state). Cookie mode refuses to start without its own
+     * ais.security.session-cookie.secret: reusing the JWT secret would let a leak of one forge both.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain webSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${ais.security.web-session:server}") String webSessionMode,
+            @Value("${ais.security.session-cookie.name:AIS_SESSION}") String cookieName,
+            @Value("${ais.security.session-cookie.secret:}") String cookieSecret,
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${ais.security.session-cookie.max-age:8h}") Duration cookieMaxAge,
+            @Value("${ais.security.session-cookie.secure:true}") boolean cookieSecure) throws Exception {
+        boolean cookieSessions = "cookie".equalsIgnoreCase(webSessionMode);
+
+        http
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(csrf -> csrf.disable())
+
+                .authorizeHttpRequests(auth -> auth
+
+                        .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/login", "/", "/css/**", "/js/**", "/images/**").permitAll()
+
+                        .requestMatchers("/admin/**", "/teacher/**", "/student/**").authenticated()
+                        .requestMatchers("/logout").authenticated()
+
+                        .anyRequest().authenticated()
+                )
+
 
                 .formLogin(form -> form
                         .loginPage("/login")
@@ -70,7 +152,7 @@ public class SecurityConfig {
                         .usernameParameter("username")
                         .passwordParameter("password")
                         .successHandler(authenticationSuccessHandler)
-                        .failureUrl("/login?error")
+                        .failureHandler(authenticationFailureHandler)
                         .permitAll()
                 )
 
@@ -78,25 +160,81 @@ public class SecurityConfig {
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/login?logout")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies("JSESSIONID", cookieName)
                         .permitAll()
                 )
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new LoginThrottleFilter(loginThrottle, authMetrics, "/login"),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        if (cookieSessions) {
+            if (cookieSecret.isBlank() || cookieSecret.equals(jwtSecret)) {
+                throw new IllegalStateException("ais.security.web-session=cookie requires "
+                        + "ais.security.session-cookie.secret, set to a value other than jwt.secret");
+            }
+            SecurityContextRepository cookieRepository = new EncryptedCookieSecurityContextRepository(
+                    cookieName, cookieSecret, cookieMaxAge, cookieSecure, Clock.systemUTC());
+            http
+                    .securityContext(context -> context.securityContextRepository(cookieRepository))
+                    .sessionManagement(session ->
+                            session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .requestCache(cache -> cache.disable());
+        } else {
+            http.sessionManagement(session ->
+                    session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED));
+        }
 
         return http.build();
     }
 
+    /**
+     * The JWT filter is a bean for injection only; it must run inside the API chain, not as a servlet filter
+     * on every request.
+     */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Re-hashes with the current target encoding after a successful form login
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
+    /**
+     * New hashes use the encoder named by ais.password.encoder ("bcrypt" or "pbkdf2"); stored hashes of any
+     * supported id still match and are upgraded on the next successful login. Hashes without an {id}
+     * prefix predate the delegating encoder and are BCrypt. Verification runs on the bounded
+     * password-verify pool.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${ais.password.encoder:bcrypt}") String encoderId,
+            @Value("${ais.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${ais.password-verify.timeout-ms:5000}") long verifyTimeoutMillis,
+            @Value("${ais.login.retry-after-seconds:5}") long retryAfterSeconds,
+            @Qualifier(ExecutorConfig.PASSWORD_VERIFY_EXECUTOR) AsyncTaskExecutor passwordVerifyExecutor) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalStateException("Unsupported ais.password.encoder '" + encoderId
+                    + "', expected one of " + encoders.keySet());
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoderId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new OffloadingPasswordEncoder(delegating, passwordVerifyExecutor,
+                Duration.ofMillis(verifyTimeoutMillis), retryAfterSeconds);
     }
 
     @Bean
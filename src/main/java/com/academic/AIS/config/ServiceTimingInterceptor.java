@@ -0,0 +1,57 @@
+package com.academic.AIS.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Records an {@code ais.service} timer per call. The registry is resolved on first use: advisors are created
+ * before the other beans, and creating the registry that early would skip its customizers and binders.
+ */
+class ServiceTimingInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "ais.service";
+    private static final String NO_EXCEPTION = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private volatile MeterRegistry meterRegistry;
+
+    ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registry();
+        Timer.Sample sample = Timer.start(registry);
+        String exception = NO_EXCEPTION;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : invocation.getMethod().getDeclaringClass();
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Service method execution time, including the transaction commit")
+                    .tag("class", targetClass.getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getObject();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+}
@@ -0,0 +1,52 @@
+package com.academic.AIS.config;
+
+import com.academic.AIS.security.CurrentTeacherArgumentResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentTeacherArgumentResolver currentTeacherArgumentResolver;
+
+    @Autowired
+    public WebMvcConfig(CurrentTeacherArgumentResolver currentTeacherArgumentResolver) {
+        this.currentTeacherArgumentResolver = currentTeacherArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentTeacherArgumentResolver);
+    }
+
+    /**
+     * Limits requests in flight. ais.request.max-concurrent=0 (the default) means: on platform threads no
+     * limit beyond Tomcat's thread pool; on virtual threads a few requests per database connection, so
+     * a burst waits here instead of in the connection pool.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+            @Value("${ais.request.max-concurrent:0}") int maxConcurrent,
+            @Value("${ais.request.acquire-timeout:2s}") Duration acquireTimeout,
+            @Value("${ais.request.retry-after-seconds:2}") long retryAfterSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        int limit = maxConcurrent > 0 ? maxConcurrent : virtualThreads ? connectionPoolSize * 4 : 0;
+
+        FilterRegistrationBean<RequestConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new RequestConcurrencyLimitFilter(Math.max(limit, 1), acquireTimeout, retryAfterSeconds));
+        // Ahead of the security chain: a shed request costs no token parsing or session lookup
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(limit > 0);
+        return registration;
+    }
+}
@@ -0,0 +1,88 @@
+package com.academic.AIS.controller.api;
+
+import com.academic.AIS.service.GradeExportService;
+import com.academic.AIS.service.GradeExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/grades")
+@Tag(name = "Grade Export", description = "Admin APIs for bulk export of the grade register")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMINISTRATOR')")
+public class ApiAdminGradeController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final GradeExportService gradeExportService;
+
+    @Autowired
+    public ApiAdminGradeController(GradeExportService gradeExportService) {
+        this.gradeExportService = gradeExportService;
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export grades",
+            description = "Stream every grade, optionally limited to one academic year and semester, as CSV or " +
+                    "newline-delimited JSON. Rows are written as they are read, so exports of any size use " +
+                    "constant memory. Set gzip=true to receive a gzip-compressed file."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportGrades(
+            @Parameter(description = "Export format: csv or ndjson", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Only export grades from this academic year", example = "2024-2025")
+            @RequestParam(required = false) String academicYear,
+            @Parameter(description = "Only export grades from this semester", example = "Fall")
+            @RequestParam(required = false) String semester,
+            @Parameter(description = "Compress the export with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        ExportFormat exportFormat = ExportFormat.parse(format);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                gradeExportService.exportGrades(exportFormat, academicYear, semester, compressed);
+                compressed.finish();
+            } else {
+                gradeExportService.exportGrades(exportFormat, academicYear, semester, out);
+            }
+        };
+
+        String filename = "grades." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8");
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,7 +1,10 @@
 package com.academic.AIS.controller.api;
 
+import com.academic.AIS.dto.pagination.CursorPage;
 import com.academic.AIS.dto.request.CreateStudentRequest;
+import com.academic.AIS.dto.response.StudentImportResponse;
 import com.academic.AIS.dto.response.StudentResponse;
+import com.academic.AIS.service.StudentImportService;
 import com.academic.AIS.service.StudentManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,18 +17,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 @RestController
@@ -36,16 +43,20 @@ import java.util.Map;
 public class ApiAdminStudentController {
 
     private final StudentManagementService studentManagementService;
+    private final StudentImportService studentImportService;
 
     @Autowired
-    public ApiAdminStudentController(StudentManagementService studentManagementService) {
+    public ApiAdminStudentController(StudentManagementService studentManagementService,
+                                     StudentImportService studentImportService) {
         this.studentManagementService = studentManagementService;
+        this.studentImportService = studentImportService;
     }
 
     @GetMapping
     @Operation(
             summary = "Get all students",
-            description = "Retrieve a list of all students in the system with their details including group assignments"
+            description = "Retrieve students with their details including group assignments, ordered by last name, " +
+                    "first name and ID. Pass the returned nextCursor as 'after' to fetch the next page."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -53,9 +64,14 @@ public class ApiAdminStudentController {
                     description = "Successfully retrieved list of students",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = StudentResponse.class)
+                            schema = @Schema(implementation = CursorPage.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, limit or sort",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized - Invalid or missing JWT token",
@@ -67,11 +83,51 @@ public class ApiAdminStudentController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<StudentResponse>> getAllStudents() {
-        List<StudentResponse> students = studentManagementService.getAllStudents();
+    public ResponseEntity<CursorPage<StudentResponse>> getAllStudents(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Page size (1-200)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Order by name: asc or desc", example = "asc")
+            @RequestParam(defaultValue = "asc") String sort) {
+        CursorPage<StudentResponse> students = studentManagementService.getStudentPage(after, limit, sort);
         return ResponseEntity.ok(students);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Import students from CSV",
+            description = "Create many student accounts from a UTF-8 CSV file with the header " +
+                    "first_name,last_name,email[,group_name]. Usernames and initial passwords follow the same " +
+                    "rules as single student creation. Rows with missing fields, duplicate usernames or emails, " +
+                    "or unknown groups are reported and skipped; all other rows are imported together."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "File processed - see imported count and per-row errors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StudentImportResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty file, missing header column or too many rows",
+                    content = @Content
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    public ResponseEntity<StudentImportResponse> importStudents(
+            @Parameter(description = "CSV file", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            StudentImportResponse result = studentImportService.importStudents(csv);
+            return ResponseEntity.ok(result);
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Get student by ID",
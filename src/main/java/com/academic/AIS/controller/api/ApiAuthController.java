@@ -1,7 +1,12 @@
 package com.academic.AIS.controller.api;
 
 import com.academic.AIS.dto.request.LoginRequest;
+import com.academic.AIS.dto.request.LogoutRequest;
 import com.academic.AIS.dto.response.AuthResponse;
+import com.academic.AIS.exception.ServiceBusyException;
+import com.academic.AIS.exception.UnauthorizedException;
+import com.academic.AIS.security.AuthMetrics;
+import com.academic.AIS.security.LoginThrottle;
 import com.academic.AIS.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestHeader;
 
 
+import java.time.Duration;
 import java.util.Map;
 
 @RestController
@@ -28,10 +35,15 @@ import java.util.Map;
 public class ApiAuthController {
 
     private final AuthenticationService authenticationService;
+    private final LoginThrottle loginThrottle;
+    private final AuthMetrics authMetrics;
 
     @Autowired
-    public ApiAuthController(AuthenticationService authenticationService) {
+    public ApiAuthController(AuthenticationService authenticationService, LoginThrottle loginThrottle,
+                             AuthMetrics authMetrics) {
         this.authenticationService = authenticationService;
+        this.loginThrottle = loginThrottle;
+        this.authMetrics = authMetrics;
     }
 
     @PostMapping("/login")
@@ -107,6 +119,11 @@ public class ApiAuthController {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many sign-ins in progress - retry after the number of seconds in Retry-After",
+                    content = @Content
             )
     })
     public ResponseEntity<AuthResponse> login(
@@ -147,9 +164,26 @@ public class ApiAuthController {
                             }
                     )
             )
-            @Valid @RequestBody LoginRequest loginRequest) {
-        AuthResponse response = authenticationService.authenticate(loginRequest);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
+        long started = System.nanoTime();
+        try (LoginThrottle.Permit permit =
+                     loginThrottle.acquire(loginRequest.getUsername(), request.getRemoteAddr())) {
+            AuthResponse response = authenticationService.authenticate(loginRequest);
+            recordLogin(started, AuthMetrics.OUTCOME_SUCCESS, response.getRole());
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            recordLogin(started, AuthMetrics.OUTCOME_FAILURE, null);
+            throw e;
+        } catch (ServiceBusyException e) {
+            recordLogin(started, AuthMetrics.OUTCOME_REJECTED, null);
+            throw e;
+        }
+    }
+
+    private void recordLogin(long startedNanos, String outcome, String role) {
+        authMetrics.recordLogin(AuthMetrics.CHANNEL_API, outcome, role,
+                Duration.ofNanos(System.nanoTime() - startedNanos));
     }
 
     @PostMapping("/refresh")
@@ -158,6 +192,10 @@ public class ApiAuthController {
             description = """
                     Get a new access token using a valid refresh token.
                     Send the refresh token in the Authorization header.
+                    
+                    Refresh tokens are single-use: the response carries the next refresh token.
+                    Presenting a refresh token that was already used revokes the whole token family
+                    and the user's current access tokens.
                     """
     )
     @ApiResponses(value = {
@@ -171,28 +209,22 @@ public class ApiAuthController {
             ),
             @ApiResponse(
                     responseCode = "401",
-                    description = "Invalid or expired refresh token",
-                    content = @Content
-            ),
-            @ApiResponse(
-                    responseCode = "501",
-                    description = "Not yet implemented",
+                    description = "Invalid, expired, revoked or already used refresh token",
                     content = @Content
             )
     })
     public ResponseEntity<AuthResponse> refreshToken(
             @RequestHeader("Authorization") String refreshToken) {
-        throw new UnsupportedOperationException("Refresh token endpoint not yet implemented");
+        String token = refreshToken.startsWith("Bearer ") ? refreshToken.substring(7) : refreshToken;
+        return ResponseEntity.ok(authenticationService.refresh(token));
     }
 
     @PostMapping("/logout")
     @Operation(
             summary = "Logout user",
             description = """
-                    Logout the current user. For stateless JWT authentication,
-                    this is typically handled client-side by removing the token.
-                    
-                    Optional: Can implement server-side token blacklist.
+                    Logout the current user. The access token is revoked until it expires.
+                    If a refresh token is sent in the body, its token family is revoked as well.
                     """
     )
     @ApiResponses(value = {
@@ -207,9 +239,11 @@ public class ApiAuthController {
                     content = @Content
             )
     })
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token) {
-        // For stateless JWT, logout is typically handled client-side
-        // Optionally implement token blacklist here
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token,
+                                       @RequestBody(required = false) LogoutRequest logoutRequest) {
+        String accessToken = token.startsWith("Bearer ") ? token.substring(7) : token;
+        String refreshToken = logoutRequest != null ? logoutRequest.getRefreshToken() : null;
+        authenticationService.logout(accessToken, refreshToken);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
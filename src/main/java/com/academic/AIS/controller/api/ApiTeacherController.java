@@ -1,12 +1,17 @@
 package com.academic.AIS.controller.api;
 
 import com.academic.AIS.dto.mapper.GradeMapper;
+import com.academic.AIS.dto.pagination.CursorPage;
+import com.academic.AIS.dto.request.BatchGradeRequest;
 import com.academic.AIS.dto.request.CreateGradeRequest;
+import com.academic.AIS.dto.response.BatchGradeResponse;
+import com.academic.AIS.dto.response.BatchGradeResult;
 import com.academic.AIS.dto.response.GradeResponse;
 import com.academic.AIS.model.Grade;
 import com.academic.AIS.model.SubjectAssignment;
-import com.academic.AIS.model.Teacher;
+import com.academic.AIS.security.CurrentTeacher;
 import com.academic.AIS.service.GradeService;
+import com.academic.AIS.service.StatisticsService;
 import com.academic.AIS.service.TeacherManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,13 +30,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -48,19 +53,15 @@ public class ApiTeacherController {
     private final TeacherManagementService teacherManagementService;
     private final GradeService gradeService;
     private final GradeMapper gradeMapper;
+    private final StatisticsService statisticsService;
 
     @Autowired
-    public ApiTeacherController(TeacherManagementService teacherManagementService, GradeService gradeService, GradeMapper gradeMapper) {
+    public ApiTeacherController(TeacherManagementService teacherManagementService, GradeService gradeService,
+                                GradeMapper gradeMapper, StatisticsService statisticsService) {
         this.teacherManagementService = teacherManagementService;
         this.gradeService = gradeService;
         this.gradeMapper = gradeMapper;
-    }
-
-    private Integer getCurrentTeacherId(Authentication authentication) {
-        String username = authentication.getName();
-        return teacherManagementService.getTeacherByUsername(username)
-                .map(Teacher::getTeacherId)
-                .orElseThrow(() -> new IllegalStateException("Teacher profile not found for user: " + username));
+        this.statisticsService = statisticsService;
     }
 
     // ==================== ASSIGNMENTS ====================
@@ -134,8 +135,8 @@ public class ApiTeacherController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<SubjectAssignment>> getAssignments(Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
+    public ResponseEntity<List<SubjectAssignment>> getAssignments(
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         List<SubjectAssignment> assignments = teacherManagementService.getTeacherAssignments(teacherId);
         return ResponseEntity.ok(assignments);
     }
@@ -182,20 +183,19 @@ public class ApiTeacherController {
                     content = @Content
             )
     })
-    public ResponseEntity<Map<String, Object>> getStatistics(Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
-
+    public ResponseEntity<Map<String, Object>> getStatistics(
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         List<SubjectAssignment> assignments = teacherManagementService.getTeacherAssignments(teacherId);
-        long totalGrades = teacherManagementService.countTeacherGrades(teacherId);
+        StatisticsService.TeacherStatistics gradeStats = statisticsService.getTeacherStatistics(teacherId);
+        long totalGrades = gradeStats.getTotalGrades();
 
-        int totalStudents = assignments.stream()
-                .filter(a -> a != null && a.getGroup() != null && a.getGroup().getStudents() != null)
-                .flatMapToInt(a -> a.getGroup().getStudents().stream().mapToInt(s -> 1))
-                .sum();
+        Set<Integer> groupIds = assignments.stream()
+                .filter(a -> a != null && a.getGroup() != null)
+                .map(a -> a.getGroup().getGroupId())
+                .collect(Collectors.toSet());
+        long totalStudents = statisticsService.countStudentsInGroups(groupIds);
 
-        List<Grade> teacherGrades = gradeService.getTeacherGrades(teacherId);
-        double averageGrade = teacherGrades.isEmpty() ? 0.0 :
-                teacherGrades.stream().mapToDouble(Grade::getGradeValue).average().orElse(0.0);
+        double averageGrade = gradeStats.getAverageGrade();
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalSubjects", assignments.size());
@@ -212,11 +212,12 @@ public class ApiTeacherController {
     @Operation(
             summary = "Get all grades",
             description = """
-                    Retrieve all grades entered by the authenticated teacher across all subjects.
+                    Retrieve grades entered by the authenticated teacher across all subjects, one page at a time.
                     
-                    **Returns:** Complete list of grades with student and assignment details.
+                    **Returns:** A page of grades with student and subject details, ordered by grade ID.
                     
-                    **Note:** This may return a large dataset. Consider using filtered endpoints for better performance.
+                    **Pagination:** Pass the returned `nextCursor` as `after` to fetch the next page.
+                    `nextCursor` is null on the last page.
                     """
     )
     @ApiResponses(value = {
@@ -225,21 +226,23 @@ public class ApiTeacherController {
                     description = "Grades retrieved successfully",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = Grade.class)
+                            schema = @Schema(implementation = CursorPage.class)
                     )
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or sort", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
-    public ResponseEntity<List<GradeResponse>> getAllGrades(
-            Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
-        List<Grade> grades = gradeService.getTeacherGrades(teacherId);
-
-        List<GradeResponse> responses = grades.stream()
-                .map(gradeMapper::toResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPage<GradeResponse>> getAllGrades(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Page size (1-200)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Order by grade ID: asc or desc", example = "desc")
+            @RequestParam(defaultValue = "desc") String sort,
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
+        CursorPage<GradeResponse> page = gradeService.getTeacherGradePage(teacherId, after, limit, sort);
+
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/grades/subject/{subjectId}")
@@ -267,8 +270,7 @@ public class ApiTeacherController {
     public ResponseEntity<List<Grade>> getGradesBySubject(
             @Parameter(description = "Subject ID", required = true, example = "1")
             @PathVariable Integer subjectId,
-            Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         List<Grade> grades = gradeService.getGradesForTeacherSubject(teacherId, subjectId);
         return ResponseEntity.ok(grades);
     }
@@ -309,9 +311,7 @@ public class ApiTeacherController {
     public ResponseEntity<List<Grade>> getGradesByAssignment(
             @Parameter(description = "Assignment ID", required = true, example = "1")
             @PathVariable Integer assignmentId,
-            Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
-
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         List<SubjectAssignment> assignments = teacherManagementService.getTeacherAssignments(teacherId);
         boolean ownsAssignment = assignments.stream()
                 .anyMatch(a -> a.getAssignmentId().equals(assignmentId));
@@ -371,13 +371,8 @@ public class ApiTeacherController {
     public ResponseEntity<Grade> getGradeById(
             @Parameter(description = "Grade ID", required = true, example = "1")
             @PathVariable Integer id,
-            Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
-
-        List<Grade> teacherGrades = gradeService.getTeacherGrades(teacherId);
-        Grade grade = teacherGrades.stream()
-                .filter(g -> g.getGradeId().equals(id))
-                .findFirst()
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
+        Grade grade = gradeService.getTeacherGrade(id, teacherId)
                 .orElseThrow(() -> new IllegalArgumentException("Grade not found or access denied"));
 
         return ResponseEntity.ok(grade);
@@ -455,10 +450,7 @@ public class ApiTeacherController {
                     )
             )
             @Valid @RequestBody CreateGradeRequest request,
-            Authentication authentication) {
-
-        Integer teacherId = getCurrentTeacherId(authentication);
-
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         Grade grade = gradeService.enterGrade(
                 teacherId,
                 request.getStudentId(),
@@ -472,6 +464,74 @@ public class ApiTeacherController {
                 .body(gradeMapper.toResponse(grade));
     }
 
+    @PostMapping("/grades/batch")
+    @Operation(
+            summary = "Create grades in batch",
+            description = """
+                    Enter grades for many students of one assignment in a single request, e.g. a whole group's
+                    end-of-term results.
+                    
+                    Each row is checked against the same rules as single grade entry. Rows that fail
+                    (student not in the group, grade already exists, student repeated, value out of range)
+                    are reported as REJECTED; all other rows are created together.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed - see per-row results",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchGradeResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body (missing fields, empty or oversized batch)",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - teacher does not own this assignment",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Assignment not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<BatchGradeResponse> createGrades(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Batch grade request",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchGradeRequest.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                                "assignmentId": 1,
+                                                "grades": [
+                                                    { "studentId": 1, "gradeValue": 8 },
+                                                    { "studentId": 2, "gradeValue": 6, "comments": "Late submission" }
+                                                ]
+                                            }
+                                            """
+                            )
+                    )
+            )
+            @Valid @RequestBody BatchGradeRequest request,
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
+        List<BatchGradeResult> results = gradeService.enterGrades(
+                teacherId,
+                request.getAssignmentId(),
+                request.getGrades()
+        );
+
+        return ResponseEntity.ok(new BatchGradeResponse(request.getAssignmentId(), results));
+    }
+
     @PutMapping("/grades/{id}")
     @Operation(
             summary = "Update grade",
@@ -521,10 +581,7 @@ public class ApiTeacherController {
                     )
             )
             @Valid @RequestBody CreateGradeRequest request,
-            Authentication authentication) {
-
-        Integer teacherId = getCurrentTeacherId(authentication);
-
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         Grade grade = gradeService.updateGrade(
                 id,
                 teacherId,
@@ -578,8 +635,7 @@ public class ApiTeacherController {
     public ResponseEntity<Void> deleteGrade(
             @Parameter(description = "Grade ID to delete", required = true, example = "1")
             @PathVariable @NotNull Integer id,
-            Authentication authentication) {
-        Integer teacherId = getCurrentTeacherId(authentication);
+            @Parameter(hidden = true) @CurrentTeacher Integer teacherId) {
         gradeService.deleteGrade(id, teacherId);
         return ResponseEntity.noContent().build();
     }
@@ -1,13 +1,18 @@
 package com.academic.AIS.controller.web.admin;
 
+import com.academic.AIS.service.GroupManagementService;
 import com.academic.AIS.service.StatisticsService;
-import jakarta.servlet.http.HttpSession;
+import com.academic.AIS.service.SubjectManagementService;
+import com.academic.AIS.service.TeacherManagementService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequestMapping("/admin")
@@ -15,20 +20,49 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AdminDashboardController extends BaseAdminController {
 
     private final StatisticsService statisticsService;
+    private final SubjectManagementService subjectManagementService;
+    private final GroupManagementService groupManagementService;
+    private final TeacherManagementService teacherManagementService;
 
     @Autowired
-    public AdminDashboardController(StatisticsService statisticsService) {
+    public AdminDashboardController(StatisticsService statisticsService,
+                                    SubjectManagementService subjectManagementService,
+                                    GroupManagementService groupManagementService,
+                                    TeacherManagementService teacherManagementService) {
         this.statisticsService = statisticsService;
+        this.subjectManagementService = subjectManagementService;
+        this.groupManagementService = groupManagementService;
+        this.teacherManagementService = teacherManagementService;
     }
 
     @GetMapping("/dashboard")
-    public String dashboard(HttpSession session, Model model) {
+    public String dashboard(@RequestParam(required = false) String academicYear,
+                            @RequestParam(required = false) String semester,
+                            @RequestParam(required = false) Integer subjectId,
+                            @RequestParam(required = false) Integer groupId,
+                            @RequestParam(required = false) Integer teacherId,
+                            HttpServletRequest request, Model model) {
         StatisticsService.SystemStatistics stats = statisticsService.getSystemStatistics();
 
+        String year = StringUtils.hasText(academicYear) ? academicYear.trim() : null;
+        String sem = StringUtils.hasText(semester) ? semester : null;
+
+        StatisticsService.GradeHistogram distribution =
+                statisticsService.getGradeHistogram(year, sem, subjectId, groupId, teacherId);
+
         model.addAttribute("stats", stats);
-        addCurrentUserToModel(session, model);
+        model.addAttribute("distribution", distribution);
+        model.addAttribute("subjects", subjectManagementService.getAllSubjects());
+        model.addAttribute("groups", groupManagementService.getAllGroups());
+        model.addAttribute("teachers", teacherManagementService.getAllTeachers());
+        model.addAttribute("selectedAcademicYear", year);
+        model.addAttribute("selectedSemester", sem);
+        model.addAttribute("selectedSubjectId", subjectId);
+        model.addAttribute("selectedGroupId", groupId);
+        model.addAttribute("selectedTeacherId", teacherId);
+        addCurrentUserToModel(request, model);
 
         return "admin/dashboard";
     }
 
-}
\ No newline at end of file
+}
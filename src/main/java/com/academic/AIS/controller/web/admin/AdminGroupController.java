@@ -1,8 +1,8 @@
 package com.academic.AIS.controller.web.admin;
 
-import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.dto.projection.GroupSummary;
 import com.academic.AIS.service.GroupManagementService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,10 +34,10 @@ public class AdminGroupController extends BaseAdminController {
     }
 
     @GetMapping
-    public String listGroups(HttpSession session, Model model) {
-        List<StudyGroup> groups = groupManagementService.getAllGroups();
+    public String listGroups(HttpServletRequest request, Model model) {
+        List<GroupSummary> groups = groupManagementService.getAllGroups();
         model.addAttribute("groups", groups);
-        addCurrentUserToModel(session, model);
+        addCurrentUserToModel(request, model);
 
         return "admin/groups";
     }
@@ -1,11 +1,12 @@
 package com.academic.AIS.controller.web.admin;
 
+import com.academic.AIS.dto.pagination.CursorPage;
 import com.academic.AIS.dto.request.CreateStudentRequest;
 import com.academic.AIS.dto.response.StudentResponse;
-import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.dto.projection.GroupSummary;
 import com.academic.AIS.service.StudentManagementService;
 import com.academic.AIS.service.GroupManagementService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -40,13 +41,16 @@ public class AdminStudentController extends BaseAdminController {
     }
 
     @GetMapping
-    public String listStudents(HttpSession session, Model model) {
-        List<StudentResponse> students = studentManagementService.getAllStudents();
-        List<StudyGroup> groups = groupManagementService.getAllGroups();
-
-        model.addAttribute("students", students);
+    public String listStudents(@RequestParam(required = false) String after,
+                               HttpServletRequest request, Model model) {
+        CursorPage<StudentResponse> students = studentManagementService.getStudentPage(after, null, "asc");
+        List<GroupSummary> groups = groupManagementService.getAllGroups();
+
+        model.addAttribute("students", students.getItems());
+        model.addAttribute("nextCursor", students.getNextCursor());
+        model.addAttribute("isFirstPage", after == null || after.isBlank());
         model.addAttribute("groups", groups);
-        addCurrentUserToModel(session, model);
+        addCurrentUserToModel(request, model);
 
         return "admin/students";
     }
@@ -1,14 +1,15 @@
 package com.academic.AIS.controller.web.admin;
 
+import com.academic.AIS.dto.projection.GroupSummary;
+import com.academic.AIS.dto.projection.SubjectSummary;
+import com.academic.AIS.dto.projection.TeacherSummary;
 import com.academic.AIS.model.Subject;
-import com.academic.AIS.model.Teacher;
-import com.academic.AIS.model.StudyGroup;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.service.SubjectManagementService;
 import com.academic.AIS.service.TeacherManagementService;
 import com.academic.AIS.service.GroupManagementService;
 import com.academic.AIS.service.AssignmentManagementService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -53,11 +54,11 @@ public class AdminSubjectController extends BaseAdminController {
     }
 
     @GetMapping
-    public String listSubjects(HttpSession session, Model model, RedirectAttributes redirectAttributes) {
+    public String listSubjects(HttpServletRequest request, Model model, RedirectAttributes redirectAttributes) {
         try {
-            List<Subject> subjects = subjectManagementService.getAllSubjects();
-            List<Teacher> teachers = teacherManagementService.getAllTeachers();
-            List<StudyGroup> groups = groupManagementService.getAllGroups();
+            List<SubjectSummary> subjects = subjectManagementService.getAllSubjects();
+            List<TeacherSummary> teachers = teacherManagementService.getAllTeachers();
+            List<GroupSummary> groups = groupManagementService.getAllGroups();
 
             logger.info("Loading subjects page - Subjects: {}, Teachers: {}, Groups: {}",
                     subjects.size(), teachers.size(), groups.size());
@@ -65,7 +66,7 @@ public class AdminSubjectController extends BaseAdminController {
             model.addAttribute("subjects", subjects);
             model.addAttribute("teachers", teachers);
             model.addAttribute("groups", groups);
-            addCurrentUserToModel(session, model);
+            addCurrentUserToModel(request, model);
 
             return "admin/subjects";
         } catch (Exception e) {
@@ -1,8 +1,8 @@
 package com.academic.AIS.controller.web.admin;
 
-import com.academic.AIS.model.Teacher;
+import com.academic.AIS.dto.projection.TeacherSummary;
 import com.academic.AIS.service.TeacherManagementService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -33,10 +33,10 @@ public class AdminTeacherController extends BaseAdminController {
     }
 
     @GetMapping
-    public String listTeachers(HttpSession session, Model model) {
-        List<Teacher> teachers = teacherManagementService.getAllTeachers();
+    public String listTeachers(HttpServletRequest request, Model model) {
+        List<TeacherSummary> teachers = teacherManagementService.getAllTeachers();
         model.addAttribute("teachers", teachers);
-        addCurrentUserToModel(session, model);
+        addCurrentUserToModel(request, model);
 
         return "admin/teachers";
     }
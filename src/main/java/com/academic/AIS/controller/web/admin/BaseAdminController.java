@@ -1,14 +1,15 @@
 package com.academic.AIS.controller.web.admin;
 
-import jakarta.servlet.http.HttpSession;
+import com.academic.AIS.security.UserProfile;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 
 @Controller
 public abstract class BaseAdminController {
 
-    protected void addCurrentUserToModel(HttpSession session, Model model) {
-        Object displayName = session.getAttribute("displayName");
+    protected void addCurrentUserToModel(HttpServletRequest request, Model model) {
+        String displayName = UserProfile.currentDisplayName(request);
         if (displayName != null) {
             model.addAttribute("currentUser", displayName);
         }
@@ -2,11 +2,10 @@ package com.academic.AIS.controller.web.student;
 
 import com.academic.AIS.model.Grade;
 import com.academic.AIS.model.Student;
-import com.academic.AIS.model.Subject;
+import com.academic.AIS.dto.projection.SubjectSummary;
 import com.academic.AIS.repository.GradeRepository;
 import com.academic.AIS.repository.StudentRepository;
-import com.academic.AIS.repository.SubjectRepository;
-import jakarta.servlet.http.HttpSession;
+import com.academic.AIS.service.SubjectManagementService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -25,20 +24,19 @@ public class StudentController {
 
     private final StudentRepository studentRepository;
     private final GradeRepository gradeRepository;
-    private final SubjectRepository subjectRepository;
+    private final SubjectManagementService subjectManagementService;
 
     @Autowired
     public StudentController(StudentRepository studentRepository,
                              GradeRepository gradeRepository,
-                             SubjectRepository subjectRepository) {
+                             SubjectManagementService subjectManagementService) {
         this.studentRepository = studentRepository;
         this.gradeRepository = gradeRepository;
-        this.subjectRepository = subjectRepository;
+        this.subjectManagementService = subjectManagementService;
     }
 
     @GetMapping("/dashboard")
     public String dashboard(Authentication authentication,
-                            HttpSession session,
                             Model model,
                             @RequestParam(required = false) Integer subjectId) {
 
@@ -55,7 +53,7 @@ public class StudentController {
             grades = gradeRepository.findByStudent_StudentId(student.getStudentId());
         }
 
-        List<Subject> subjects = subjectRepository.findAll();
+        List<SubjectSummary> subjects = subjectManagementService.getAllSubjects();
 
         StudentStatistics stats = calculateStatistics(grades);
 
@@ -1,17 +1,19 @@
 package com.academic.AIS.controller.web.teacher;
 
-import com.academic.AIS.model.Teacher;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.model.Grade;
 import com.academic.AIS.model.Student;
+import com.academic.AIS.security.CurrentTeacher;
+import com.academic.AIS.security.UserProfile;
 import com.academic.AIS.service.GradeService;
+import com.academic.AIS.service.StatisticsService;
 import com.academic.AIS.service.TeacherManagementService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.annotation.Validated;
@@ -29,65 +31,67 @@ public class TeacherController {
 
     private final TeacherManagementService teacherManagementService;
     private final GradeService gradeService;
+    private final StatisticsService statisticsService;
 
     @Autowired
-    public TeacherController(TeacherManagementService teacherManagementService, GradeService gradeService) {
+    public TeacherController(TeacherManagementService teacherManagementService, GradeService gradeService,
+                             StatisticsService statisticsService) {
         this.teacherManagementService = teacherManagementService;
         this.gradeService = gradeService;
+        this.statisticsService = statisticsService;
     }
 
-    private Integer getCurrentTeacherId(Authentication authentication) {
-        String username = authentication.getName();
-        return teacherManagementService.getTeacherByUsername(username)
-                .map(Teacher::getTeacherId)
-                .orElseThrow(() -> new IllegalStateException("Teacher profile not found for user: " + username));
-    }
-
-    private void addCurrentUserToModel(Authentication authentication, Model model) {
-        String username = authentication.getName();
-        teacherManagementService.getTeacherByUsername(username)
-                .ifPresent(teacher -> model.addAttribute("currentUser", teacher.getFullName()));
+    private void addCurrentUserToModel(HttpServletRequest request, Model model) {
+        // Stored at login (or by the @CurrentTeacher resolver for older sessions), so no lookup is needed
+        String displayName = UserProfile.currentDisplayName(request);
+        if (displayName != null) {
+            model.addAttribute("currentUser", displayName);
+        }
     }
 
     // ==================== DASHBOARD ====================
 
     @GetMapping("/dashboard")
-    public String dashboard(Authentication authentication, Model model) {
-        Integer teacherId = getCurrentTeacherId(authentication);
-
+    public String dashboard(@CurrentTeacher Integer teacherId, HttpServletRequest request, Model model) {
         List<SubjectAssignment> assignments = teacherManagementService.getTeacherAssignments(teacherId);
 
-        long totalGrades = teacherManagementService.countTeacherGrades(teacherId);
+        StatisticsService.TeacherStatistics gradeStats = statisticsService.getTeacherStatistics(teacherId);
 
-        int totalStudents = assignments.stream()
-                .filter(a -> a != null && a.getGroup() != null && a.getGroup().getStudents() != null)
-                .flatMap(a -> a.getGroup().getStudents().stream())
-                .collect(Collectors.toSet())
-                .size();
+        int totalStudents = (int) statisticsService.countStudentsInGroups(distinctGroupIds(assignments));
 
-        List<Grade> teacherGrades = gradeService.getTeacherGrades(teacherId);
-        double averageGrade = teacherGrades.isEmpty() ? 0.0 :
-                teacherGrades.stream().mapToDouble(Grade::getGradeValue).average().orElse(0.0);
+        TeacherStats stats = new TeacherStats(assignments.size(), totalStudents,
+                gradeStats.getTotalGrades(), gradeStats.getAverageGrade());
 
-        TeacherStats stats = new TeacherStats(assignments.size(), totalStudents, totalGrades, averageGrade);
-
-        addCurrentUserToModel(authentication, model);
+        addCurrentUserToModel(request, model);
         model.addAttribute("subjects", assignments);
         model.addAttribute("stats", stats);
 
         return "teacher/dashboard";
     }
 
+    /**
+     * The distinct students across assignments are the members of the distinct groups; they are counted in the
+     * database rather than by touching each group's student collection.
+     */
+    static Set<Integer> distinctGroupIds(List<SubjectAssignment> assignments) {
+        Set<Integer> groupIds = new HashSet<>();
+        for (SubjectAssignment a : assignments) {
+            if (a != null && a.getGroup() != null) {
+                groupIds.add(a.getGroup().getGroupId());
+            }
+        }
+        return groupIds;
+    }
+
     // ==================== GRADES PAGE ====================
 
     @GetMapping("/grades")
     public String gradesPage(@RequestParam(required = false) Integer subjectId,
                              @RequestParam(required = false) Integer assignmentId,
-                             Authentication authentication,
+                             @CurrentTeacher Integer teacherId,
+                             HttpServletRequest request,
                              Model model) {
 
-        Integer teacherId = getCurrentTeacherId(authentication);
-
         List<SubjectAssignment> allAssignments = teacherManagementService.getTeacherAssignments(teacherId);
         List<SubjectAssignment> assignments = allAssignments.stream()
                 .filter(a -> a != null && a.getSubject() != null)
@@ -112,7 +116,7 @@ public class TeacherController {
         List<Map<String, Object>> safeAssignments = buildSafeAssignmentsForUI(assignments);
         model.addAttribute("safeAssignments", safeAssignments);
 
-        addCurrentUserToModel(authentication, model);
+        addCurrentUserToModel(request, model);
 
         return "teacher/grades";
     }
@@ -163,11 +167,10 @@ public class TeacherController {
                               @Min(value = 0, message = "Grade must be at least 0")
                               @Max(value = 10, message = "Grade must not exceed 10") Integer gradeValue,
                               @RequestParam(required = false) String comments,
-                              Authentication authentication,
+                              @CurrentTeacher Integer teacherId,
                               RedirectAttributes redirectAttributes) {
 
         try {
-            Integer teacherId = getCurrentTeacherId(authentication);
             gradeService.enterGrade(teacherId, studentId, assignmentId, gradeValue, comments);
             redirectAttributes.addFlashAttribute("success", "Grade added successfully");
         } catch (IllegalArgumentException e) {
@@ -187,11 +190,9 @@ public class TeacherController {
                               @Min(value = 0, message = "Grade must be at least 0")
                               @Max(value = 10, message = "Grade must not exceed 10") Integer gradeValue,
                               @RequestParam(required = false) String comments,
-                              Authentication authentication,
+                              @CurrentTeacher Integer teacherId,
                               RedirectAttributes redirectAttributes) {
 
-        Integer teacherId = getCurrentTeacherId(authentication);
-
         try {
             Grade g = gradeService.updateGrade(id, teacherId, gradeValue, comments);
             redirectAttributes.addFlashAttribute("success", "Grade updated successfully");
@@ -210,11 +211,9 @@ public class TeacherController {
 
     @PostMapping("/grades/delete/{id}")
     public String deleteGrade(@PathVariable @NotNull Integer id,
-                              Authentication authentication,
+                              @CurrentTeacher Integer teacherId,
                               RedirectAttributes redirectAttributes) {
 
-        Integer teacherId = getCurrentTeacherId(authentication);
-
         try {
             Grade deleted = gradeService.deleteGrade(id, teacherId);
             redirectAttributes.addFlashAttribute("success", "Grade deleted successfully");
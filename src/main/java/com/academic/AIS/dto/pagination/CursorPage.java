@@ -0,0 +1,64 @@
+package com.academic.AIS.dto.pagination;
+
+import com.academic.AIS.exception.ValidationException;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "One page of a keyset-paginated listing")
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    @Schema(description = "Items on this page")
+    private List<T> items;
+
+    @Schema(description = "Pass as 'after' to fetch the next page; null on the last page",
+            example = "MTIz", nullable = true)
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a query that fetched up to limit + 1 rows; the extra row only signals that more exist.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public static boolean isDescending(String sort) {
+        if (sort == null || sort.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (sort.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new ValidationException("Sort must be 'asc' or 'desc'");
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,54 @@
+package com.academic.AIS.dto.pagination;
+
+import com.academic.AIS.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor holding the sort key of the last row a client has seen.
+ * Each key is base64url-encoded and the keys are joined with '.', so the cursor is safe in a query string.
+ */
+public final class KeysetCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {}
+
+    public static String encode(Object... keys) {
+        StringBuilder cursor = new StringBuilder();
+        for (Object key : keys) {
+            if (cursor.length() > 0) {
+                cursor.append('.');
+            }
+            cursor.append(ENCODER.encodeToString(String.valueOf(key).getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        String[] parts = cursor.split("\\.", -1);
+        if (parts.length != expectedKeys) {
+            throw new ValidationException("Invalid cursor");
+        }
+
+        String[] keys = new String[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                keys[i] = new String(DECODER.decode(parts[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+        return keys;
+    }
+
+    public static Integer toInteger(String key) {
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
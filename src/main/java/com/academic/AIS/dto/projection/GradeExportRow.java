@@ -0,0 +1,70 @@
+package com.academic.AIS.dto.projection;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of one grade for bulk export.
+ * Instantiated directly by JPQL constructor expressions in GradeRepository, so exported rows never
+ * become managed entities and the persistence context stays empty however many rows are streamed.
+ * The property order is the NDJSON field order of the export.
+ */
+@JsonPropertyOrder({
+        "gradeId", "gradeDate", "gradeValue", "studentId", "studentFirstName", "studentLastName",
+        "groupName", "subjectCode", "subjectName", "teacherFirstName", "teacherLastName",
+        "academicYear", "semester", "comments"
+})
+public class GradeExportRow {
+
+    private final Integer gradeId;
+    private final LocalDate gradeDate;
+    private final Integer gradeValue;
+    private final Integer studentId;
+    private final String studentFirstName;
+    private final String studentLastName;
+    private final String groupName;
+    private final String subjectCode;
+    private final String subjectName;
+    private final String teacherFirstName;
+    private final String teacherLastName;
+    private final String academicYear;
+    private final String semester;
+    private final String comments;
+
+    public GradeExportRow(Integer gradeId, LocalDate gradeDate, Integer gradeValue,
+                          Integer studentId, String studentFirstName, String studentLastName,
+                          String groupName, String subjectCode, String subjectName,
+                          String teacherFirstName, String teacherLastName,
+                          String academicYear, String semester, String comments) {
+        this.gradeId = gradeId;
+        this.gradeDate = gradeDate;
+        this.gradeValue = gradeValue;
+        this.studentId = studentId;
+        this.studentFirstName = studentFirstName;
+        this.studentLastName = studentLastName;
+        this.groupName = groupName;
+        this.subjectCode = subjectCode;
+        this.subjectName = subjectName;
+        this.teacherFirstName = teacherFirstName;
+        this.teacherLastName = teacherLastName;
+        this.academicYear = academicYear;
+        this.semester = semester;
+        this.comments = comments;
+    }
+
+    public Integer getGradeId() { return gradeId; }
+    public LocalDate getGradeDate() { return gradeDate; }
+    public Integer getGradeValue() { return gradeValue; }
+    public Integer getStudentId() { return studentId; }
+    public String getStudentFirstName() { return studentFirstName; }
+    public String getStudentLastName() { return studentLastName; }
+    public String getGroupName() { return groupName; }
+    public String getSubjectCode() { return subjectCode; }
+    public String getSubjectName() { return subjectName; }
+    public String getTeacherFirstName() { return teacherFirstName; }
+    public String getTeacherLastName() { return teacherLastName; }
+    public String getAcademicYear() { return academicYear; }
+    public String getSemester() { return semester; }
+    public String getComments() { return comments; }
+}
@@ -0,0 +1,24 @@
+package com.academic.AIS.dto.projection;
+
+/**
+ * One bucket of a grade histogram: how many grades have a given value.
+ * Instantiated directly by JPQL constructor expressions in GradeRepository.
+ */
+public class GradeValueCount {
+
+    private final int gradeValue;
+    private final long count;
+
+    public GradeValueCount(Integer gradeValue, Long count) {
+        this.gradeValue = gradeValue;
+        this.count = count != null ? count : 0L;
+    }
+
+    public int getGradeValue() { return gradeValue; }
+    public long getCount() { return count; }
+
+    @Override
+    public String toString() {
+        return "GradeValueCount{gradeValue=" + gradeValue + ", count=" + count + "}";
+    }
+}
@@ -0,0 +1,30 @@
+package com.academic.AIS.dto.projection;
+
+/**
+ * A study group row as listed in the admin pages, with its student count instead of the students.
+ * Instantiated directly by the JPQL constructor expression in StudyGroupRepository; safe to cache.
+ */
+public class GroupSummary {
+
+    private final Integer groupId;
+    private final String groupName;
+    private final Integer year;
+    private final long studentCount;
+
+    public GroupSummary(Integer groupId, String groupName, Integer year, Long studentCount) {
+        this.groupId = groupId;
+        this.groupName = groupName;
+        this.year = year;
+        this.studentCount = studentCount != null ? studentCount : 0L;
+    }
+
+    public Integer getGroupId() { return groupId; }
+    public String getGroupName() { return groupName; }
+    public Integer getYear() { return year; }
+    public long getStudentCount() { return studentCount; }
+
+    @Override
+    public String toString() {
+        return "GroupSummary{groupId=" + groupId + ", groupName='" + groupName + "', studentCount=" + studentCount + "}";
+    }
+}
@@ -0,0 +1,41 @@
+package com.academic.AIS.dto.projection;
+
+/**
+ * A subject row as listed in the admin pages, with the teacher, group and academic year of its first
+ * assignment flattened in (all null when the subject has no assignment). Instantiated directly by the
+ * JPQL constructor expression in SubjectRepository; safe to cache.
+ */
+public class SubjectSummary {
+
+    private final Integer subjectId;
+    private final String subjectName;
+    private final String subjectCode;
+    private final Integer credits;
+    private final String teacherName;
+    private final String groupName;
+    private final String academicYear;
+
+    public SubjectSummary(Integer subjectId, String subjectName, String subjectCode, Integer credits,
+                          String teacherFirstName, String teacherLastName, String groupName, String academicYear) {
+        this.subjectId = subjectId;
+        this.subjectName = subjectName;
+        this.subjectCode = subjectCode;
+        this.credits = credits;
+        this.teacherName = teacherFirstName != null ? teacherFirstName + " " + teacherLastName : null;
+        this.groupName = groupName;
+        this.academicYear = academicYear;
+    }
+
+    public Integer getSubjectId() { return subjectId; }
+    public String getSubjectName() { return subjectName; }
+    public String getSubjectCode() { return subjectCode; }
+    public Integer getCredits() { return credits; }
+    public String getTeacherName() { return teacherName; }
+    public String getGroupName() { return groupName; }
+    public String getAcademicYear() { return academicYear; }
+
+    @Override
+    public String toString() {
+        return "SubjectSummary{subjectId=" + subjectId + ", subjectCode='" + subjectCode + "'}";
+    }
+}
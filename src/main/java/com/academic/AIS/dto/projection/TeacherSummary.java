@@ -0,0 +1,38 @@
+package com.academic.AIS.dto.projection;
+
+/**
+ * A teacher row as listed in the admin pages and filters: the profile fields plus the login name,
+ * without the user entity behind it. Instantiated directly by the JPQL constructor expression in
+ * TeacherRepository; safe to cache.
+ */
+public class TeacherSummary {
+
+    private final Integer teacherId;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String username;
+
+    public TeacherSummary(Integer teacherId, String firstName, String lastName, String email, String username) {
+        this.teacherId = teacherId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.username = username;
+    }
+
+    public Integer getTeacherId() { return teacherId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getEmail() { return email; }
+    public String getUsername() { return username; }
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+
+    @Override
+    public String toString() {
+        return "TeacherSummary{teacherId=" + teacherId + ", username='" + username + "'}";
+    }
+}
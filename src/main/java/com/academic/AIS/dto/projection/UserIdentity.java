@@ -0,0 +1,40 @@
+package com.academic.AIS.dto.projection;
+
+/**
+ * Everything a login needs about an account: credentials, role, the id of its student/teacher/administrator
+ * row and the display name. Instantiated directly by the JPQL constructor expression in UserRepository,
+ * which resolves all of it in one query.
+ */
+public class UserIdentity {
+
+    private final Integer userId;
+    private final String username;
+    private final String password;
+    private final String role;
+    private final Integer profileId;
+    private final String displayName;
+
+    public UserIdentity(Integer userId, String username, String password, String role,
+                        Integer profileId, String displayName) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.profileId = profileId;
+        // Accounts without a profile row (e.g. a role without its own table) are shown by username
+        this.displayName = displayName != null ? displayName : username;
+    }
+
+    public Integer getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+    public String getRole() { return role; }
+    public Integer getProfileId() { return profileId; }
+    public String getDisplayName() { return displayName; }
+
+    @Override
+    public String toString() {
+        return "UserIdentity{userId=" + userId + ", username='" + username + "', role='" + role
+                + "', profileId=" + profileId + "}";
+    }
+}
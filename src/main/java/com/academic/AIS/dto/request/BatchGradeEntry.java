@@ -0,0 +1,37 @@
+package com.academic.AIS.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "One student's grade within a batch grade request")
+public class BatchGradeEntry {
+
+    @Schema(description = "Student ID receiving the grade", example = "1", required = true)
+    @NotNull(message = "Student ID is required")
+    private Integer studentId;
+
+    @Schema(description = "Grade value on 0-10 scale", example = "8", required = true,
+            minimum = "0", maximum = "10")
+    @NotNull(message = "Grade value is required")
+    private Integer gradeValue;
+
+    @Schema(description = "Optional teacher comments about the grade", example = "Good work", maxLength = 500)
+    @Size(max = 500, message = "Comments must not exceed 500 characters")
+    private String comments;
+
+    public BatchGradeEntry() {}
+
+    public BatchGradeEntry(Integer studentId, Integer gradeValue, String comments) {
+        this.studentId = studentId;
+        this.gradeValue = gradeValue;
+        this.comments = comments;
+    }
+
+    public Integer getStudentId() { return studentId; }
+    public void setStudentId(Integer studentId) { this.studentId = studentId; }
+    public Integer getGradeValue() { return gradeValue; }
+    public void setGradeValue(Integer gradeValue) { this.gradeValue = gradeValue; }
+    public String getComments() { return comments; }
+    public void setComments(String comments) { this.comments = comments; }
+}
@@ -0,0 +1,32 @@
+package com.academic.AIS.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to enter grades for many students of one assignment at once")
+public class BatchGradeRequest {
+
+    public static final int MAX_GRADES = 1000;
+
+    @Schema(description = "Subject assignment ID", example = "1", required = true)
+    @NotNull(message = "Assignment ID is required")
+    private Integer assignmentId;
+
+    @Schema(description = "Grades to enter, at most one per student", required = true)
+    @NotEmpty(message = "At least one grade is required")
+    @Size(max = MAX_GRADES, message = "At most " + MAX_GRADES + " grades can be entered at once")
+    @Valid
+    private List<BatchGradeEntry> grades;
+
+    public BatchGradeRequest() {}
+
+    public Integer getAssignmentId() { return assignmentId; }
+    public void setAssignmentId(Integer assignmentId) { this.assignmentId = assignmentId; }
+    public List<BatchGradeEntry> getGrades() { return grades; }
+    public void setGrades(List<BatchGradeEntry> grades) { this.grades = grades; }
+}
@@ -0,0 +1,22 @@
+package com.academic.AIS.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Optional logout payload")
+public class LogoutRequest {
+
+    @Schema(
+            description = "Refresh token to revoke together with the access token",
+            example = "eyJhbGciOiJIUzI1NiJ9..."
+    )
+    private String refreshToken;
+
+    public LogoutRequest() {}
+
+    public LogoutRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+}
@@ -0,0 +1,41 @@
+package com.academic.AIS.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of a batch grade request")
+public class BatchGradeResponse {
+
+    @Schema(description = "Subject assignment ID", example = "1")
+    private Integer assignmentId;
+
+    @Schema(description = "Number of grades created", example = "28")
+    private int created;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private int rejected;
+
+    @Schema(description = "Per-row outcomes in request order")
+    private List<BatchGradeResult> results;
+
+    public BatchGradeResponse() {}
+
+    public BatchGradeResponse(Integer assignmentId, List<BatchGradeResult> results) {
+        this.assignmentId = assignmentId;
+        this.results = results;
+        this.created = (int) results.stream()
+                .filter(result -> BatchGradeResult.CREATED.equals(result.getStatus()))
+                .count();
+        this.rejected = results.size() - created;
+    }
+
+    public Integer getAssignmentId() { return assignmentId; }
+    public void setAssignmentId(Integer assignmentId) { this.assignmentId = assignmentId; }
+    public int getCreated() { return created; }
+    public void setCreated(int created) { this.created = created; }
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    public List<BatchGradeResult> getResults() { return results; }
+    public void setResults(List<BatchGradeResult> results) { this.results = results; }
+}
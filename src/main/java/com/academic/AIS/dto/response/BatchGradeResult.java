@@ -0,0 +1,57 @@
+package com.academic.AIS.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one row of a batch grade request")
+public class BatchGradeResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    @Schema(description = "Position of the row in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Student ID from the request row", example = "1")
+    private Integer studentId;
+
+    @Schema(description = "Row outcome", example = "CREATED", allowableValues = {CREATED, REJECTED})
+    private String status;
+
+    @Schema(description = "ID of the created grade; null when rejected", example = "42", nullable = true)
+    private Integer gradeId;
+
+    @Schema(description = "Why the row was rejected; null when created",
+            example = "Student is not in the group for this subject", nullable = true)
+    private String message;
+
+    public BatchGradeResult() {}
+
+    public static BatchGradeResult created(int index, Integer studentId, Integer gradeId) {
+        BatchGradeResult result = new BatchGradeResult();
+        result.index = index;
+        result.studentId = studentId;
+        result.status = CREATED;
+        result.gradeId = gradeId;
+        return result;
+    }
+
+    public static BatchGradeResult rejected(int index, Integer studentId, String message) {
+        BatchGradeResult result = new BatchGradeResult();
+        result.index = index;
+        result.studentId = studentId;
+        result.status = REJECTED;
+        result.message = message;
+        return result;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public Integer getStudentId() { return studentId; }
+    public void setStudentId(Integer studentId) { this.studentId = studentId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Integer getGradeId() { return gradeId; }
+    public void setGradeId(Integer gradeId) { this.gradeId = gradeId; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -1,5 +1,6 @@
 package com.academic.AIS.dto.response;
 
+import com.academic.AIS.model.Grade;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 
@@ -45,6 +46,26 @@ public class GradeResponse {
 
     public GradeResponse() {}
 
+    /**
+     * Used by JPQL constructor expressions so listings can be read without loading Grade entities.
+     */
+    public GradeResponse(Integer gradeId, Integer studentId, String studentFirstName, String studentLastName,
+                         Integer subjectId, String subjectName, String subjectCode,
+                         Integer gradeValue, LocalDate gradeDate, String comments,
+                         String teacherFirstName, String teacherLastName) {
+        this.gradeId = gradeId;
+        this.studentId = studentId;
+        this.studentName = studentFirstName + " " + studentLastName;
+        this.subjectId = subjectId;
+        this.subjectName = subjectName;
+        this.subjectCode = subjectCode;
+        this.gradeValue = gradeValue;
+        this.gradeLevel = Grade.levelOf(gradeValue);
+        this.gradeDate = gradeDate;
+        this.comments = comments;
+        this.teacherName = teacherFirstName + " " + teacherLastName;
+    }
+
     // Getters and setters
     public Integer getGradeId() { return gradeId; }
     public void setGradeId(Integer gradeId) { this.gradeId = gradeId; }
@@ -0,0 +1,31 @@
+package com.academic.AIS.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A CSV row that could not be imported")
+public class StudentImportError {
+
+    @Schema(description = "Line number in the uploaded file (header is line 1)", example = "17")
+    private int line;
+
+    @Schema(description = "Email from the row, if present", example = "alice@example.com", nullable = true)
+    private String email;
+
+    @Schema(description = "Why the row was rejected", example = "Email already exists")
+    private String message;
+
+    public StudentImportError() {}
+
+    public StudentImportError(int line, String email, String message) {
+        this.line = line;
+        this.email = email;
+        this.message = message;
+    }
+
+    public int getLine() { return line; }
+    public void setLine(int line) { this.line = line; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
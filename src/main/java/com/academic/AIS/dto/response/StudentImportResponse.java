@@ -0,0 +1,39 @@
+package com.academic.AIS.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of a CSV student import")
+public class StudentImportResponse {
+
+    @Schema(description = "Number of data rows in the file", example = "5000")
+    private int totalRows;
+
+    @Schema(description = "Number of students created", example = "4987")
+    private int imported;
+
+    @Schema(description = "Number of rows rejected", example = "13")
+    private int failed;
+
+    @Schema(description = "Rejected rows with reasons, in file order")
+    private List<StudentImportError> errors;
+
+    public StudentImportResponse() {}
+
+    public StudentImportResponse(int totalRows, int imported, List<StudentImportError> errors) {
+        this.totalRows = totalRows;
+        this.imported = imported;
+        this.failed = errors.size();
+        this.errors = errors;
+    }
+
+    public int getTotalRows() { return totalRows; }
+    public void setTotalRows(int totalRows) { this.totalRows = totalRows; }
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<StudentImportError> getErrors() { return errors; }
+    public void setErrors(List<StudentImportError> errors) { this.errors = errors; }
+}
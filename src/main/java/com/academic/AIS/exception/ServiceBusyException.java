@@ -0,0 +1,19 @@
+package com.academic.AIS.exception;
+
+/**
+ * The request was shed because a bounded resource (e.g. password verification) is saturated.
+ * Mapped to 503 with a Retry-After header.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import java.time.LocalDate;
 
 @Entity
@@ -17,7 +18,8 @@ import java.time.LocalDate;
 public class Grade {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grade_id_generator")
+    @SequenceGenerator(name = "grade_id_generator", sequenceName = "grade_grade_id_seq", allocationSize = 50)
     @Column(name = "grade_id")
     private Integer gradeId;
 
@@ -57,6 +59,10 @@ public class Grade {
     }
 
     public String getGradeLevel() {
+        return levelOf(gradeValue);
+    }
+
+    public static String levelOf(Integer gradeValue) {
         if (gradeValue == null) return "N/A";
         if (gradeValue >= 9) return "Excellent";
         if (gradeValue >= 7) return "Good";
@@ -0,0 +1,70 @@
+package com.academic.AIS.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Column;
+
+/**
+ * Running grade totals per teacher, student, group and subject.
+ * Rows are maintained through delta upserts (GradeService on grade writes, the management services before
+ * deletes that cascade to grades), so neither reads nor deletes scan the whole grade table.
+ */
+@Entity
+@Table(name = "grade_statistics")
+@IdClass(GradeStatisticsId.class)
+public class GradeStatistics {
+
+    public static final String SCOPE_TEACHER = "TEACHER";
+    public static final String SCOPE_STUDENT = "STUDENT";
+    public static final String SCOPE_GROUP = "GROUP";
+    public static final String SCOPE_SUBJECT = "SUBJECT";
+
+    @Id
+    @Column(name = "scope", length = 20)
+    private String scope;
+
+    @Id
+    @Column(name = "scope_id")
+    private Integer scopeId;
+
+    @Column(name = "grade_count", nullable = false)
+    private long gradeCount;
+
+    @Column(name = "grade_sum", nullable = false)
+    private long gradeSum;
+
+    @Column(name = "passing_count", nullable = false)
+    private long passingCount;
+
+    public GradeStatistics() {}
+
+    public GradeStatistics(String scope, Integer scopeId, long gradeCount, long gradeSum, long passingCount) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.gradeCount = gradeCount;
+        this.gradeSum = gradeSum;
+        this.passingCount = passingCount;
+    }
+
+    public double getAverageGrade() {
+        return gradeCount == 0 ? 0.0 : (double) gradeSum / gradeCount;
+    }
+
+    public long getFailingCount() {
+        return gradeCount - passingCount;
+    }
+
+    public String getScope() { return scope; }
+    public Integer getScopeId() { return scopeId; }
+    public long getGradeCount() { return gradeCount; }
+    public long getGradeSum() { return gradeSum; }
+    public long getPassingCount() { return passingCount; }
+
+    @Override
+    public String toString() {
+        return "GradeStatistics{scope='" + scope + "', scopeId=" + scopeId +
+                ", gradeCount=" + gradeCount + ", gradeSum=" + gradeSum + ", passingCount=" + passingCount + "}";
+    }
+}
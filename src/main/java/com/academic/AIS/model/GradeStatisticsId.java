@@ -0,0 +1,33 @@
+package com.academic.AIS.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class GradeStatisticsId implements Serializable {
+
+    private String scope;
+    private Integer scopeId;
+
+    public GradeStatisticsId() {}
+
+    public GradeStatisticsId(String scope, Integer scopeId) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+    }
+
+    public String getScope() { return scope; }
+    public Integer getScopeId() { return scopeId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GradeStatisticsId)) return false;
+        GradeStatisticsId that = (GradeStatisticsId) o;
+        return Objects.equals(scope, that.scope) && Objects.equals(scopeId, that.scopeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scope, scopeId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.academic.AIS.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Server-side record of an issued refresh token, identified by the token's jti claim.
+ * Tokens issued from one login share a family; each refresh revokes the presented token and issues the
+ * next one in the same family, so presenting an already-used token reveals theft and revokes the family.
+ */
+@Entity
+@Table(name = "refresh_token")
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "issued_at", nullable = false)
+    private Instant issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    // The id is assigned by us, so tell Spring Data to persist instead of merging (no SELECT before INSERT)
+    @Transient
+    private boolean isNew = true;
+
+    public RefreshToken() {}
+
+    public RefreshToken(String jti, String familyId, User user, Instant issuedAt, Instant expiresAt) {
+        this.jti = jti;
+        this.familyId = familyId;
+        this.user = user;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() { return jti; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public String getJti() { return jti; }
+    public String getFamilyId() { return familyId; }
+    public User getUser() { return user; }
+    public Instant getIssuedAt() { return issuedAt; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Instant getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.FetchType;
@@ -18,7 +19,8 @@ import java.util.List;
 public class StudyGroup {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_id_generator")
+    @SequenceGenerator(name = "group_id_generator", sequenceName = "study_group_group_id_seq", allocationSize = 50)
     @Column(name = "group_id")
     private Integer groupId;
 
@@ -6,6 +6,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.JoinColumn;
@@ -20,7 +21,8 @@ import java.util.List;
 public class SubjectAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_id_generator")
+    @SequenceGenerator(name = "assignment_id_generator", sequenceName = "subject_assignment_assignment_id_seq", allocationSize = 50)
     @Column(name = "assignment_id")
     private Integer assignmentId;
 
@@ -1,11 +1,22 @@
 package com.academic.AIS.repository;
 
+import com.academic.AIS.dto.projection.GradeExportRow;
+import com.academic.AIS.dto.projection.GradeValueCount;
+import com.academic.AIS.dto.response.GradeResponse;
 import com.academic.AIS.model.Grade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GradeRepository extends JpaRepository<Grade, Integer> {
@@ -19,14 +30,99 @@ public interface GradeRepository extends JpaRepository<Grade, Integer> {
     List<Grade> findByStudentWithDetails(@Param("studentId") Integer studentId);
 
     @Query("SELECT g FROM Grade g " +
-            "WHERE g.assignment.teacher.teacherId = :teacherId")
+            "JOIN FETCH g.student s " +
+            "JOIN FETCH s.user " +
+            "JOIN FETCH g.assignment a " +
+            "JOIN FETCH a.subject " +
+            "JOIN FETCH a.group " +
+            "JOIN FETCH a.teacher t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.teacherId = :teacherId")
     List<Grade> findByTeacher_TeacherId(@Param("teacherId") Integer teacherId);
 
+    // Keyset pages of a teacher's grades by grade id; the first page has its own query so the cursor
+    // comparison is never wrapped in an IS NULL check. The teacher's assignments come from
+    // idx_assignment_teacher_subject and each one's grades past the cursor from idx_grade_assignment_keyset.
+
+    @Query("SELECT new com.academic.AIS.dto.response.GradeResponse(" +
+            "g.gradeId, s.studentId, s.firstName, s.lastName, " +
+            "sub.subjectId, sub.subjectName, sub.subjectCode, " +
+            "g.gradeValue, g.gradeDate, g.comments, t.firstName, t.lastName) " +
+            "FROM Grade g " +
+            "JOIN g.student s " +
+            "JOIN g.assignment a " +
+            "JOIN a.subject sub " +
+            "JOIN a.teacher t " +
+            "WHERE t.teacherId = :teacherId " +
+            "ORDER BY g.gradeId ASC")
+    List<GradeResponse> findResponsesByTeacher(@Param("teacherId") Integer teacherId, Pageable pageable);
+
+    @Query("SELECT new com.academic.AIS.dto.response.GradeResponse(" +
+            "g.gradeId, s.studentId, s.firstName, s.lastName, " +
+            "sub.subjectId, sub.subjectName, sub.subjectCode, " +
+            "g.gradeValue, g.gradeDate, g.comments, t.firstName, t.lastName) " +
+            "FROM Grade g " +
+            "JOIN g.student s " +
+            "JOIN g.assignment a " +
+            "JOIN a.subject sub " +
+            "JOIN a.teacher t " +
+            "WHERE t.teacherId = :teacherId " +
+            "AND g.gradeId > :afterId " +
+            "ORDER BY g.gradeId ASC")
+    List<GradeResponse> findResponsesByTeacherAfter(@Param("teacherId") Integer teacherId,
+                                                    @Param("afterId") Integer afterId,
+                                                    Pageable pageable);
+
+    @Query("SELECT new com.academic.AIS.dto.response.GradeResponse(" +
+            "g.gradeId, s.studentId, s.firstName, s.lastName, " +
+            "sub.subjectId, sub.subjectName, sub.subjectCode, " +
+            "g.gradeValue, g.gradeDate, g.comments, t.firstName, t.lastName) " +
+            "FROM Grade g " +
+            "JOIN g.student s " +
+            "JOIN g.assignment a " +
+            "JOIN a.subject sub " +
+            "JOIN a.teacher t " +
+            "WHERE t.teacherId = :teacherId " +
+            "ORDER BY g.gradeId DESC")
+    List<GradeResponse> findResponsesByTeacherDescending(@Param("teacherId") Integer teacherId,
+                                                         Pageable pageable);
+
+    @Query("SELECT new com.academic.AIS.dto.response.GradeResponse(" +
+            "g.gradeId, s.studentId, s.firstName, s.lastName, " +
+            "sub.subjectId, sub.subjectName, sub.subjectCode, " +
+            "g.gradeValue, g.gradeDate, g.comments, t.firstName, t.lastName) " +
+            "FROM Grade g " +
+            "JOIN g.student s " +
+            "JOIN g.assignment a " +
+            "JOIN a.subject sub " +
+            "JOIN a.teacher t " +
+            "WHERE t.teacherId = :teacherId " +
+            "AND g.gradeId < :beforeId " +
+            "ORDER BY g.gradeId DESC")
+    List<GradeResponse> findResponsesByTeacherBefore(@Param("teacherId") Integer teacherId,
+                                                     @Param("beforeId") Integer beforeId,
+                                                     Pageable pageable);
+
+    @Query("SELECT g FROM Grade g " +
+            "JOIN FETCH g.student s " +
+            "JOIN FETCH s.user " +
+            "JOIN FETCH g.assignment a " +
+            "JOIN FETCH a.subject " +
+            "JOIN FETCH a.group " +
+            "WHERE g.gradeId = :gradeId " +
+            "AND a.teacher.teacherId = :teacherId")
+    Optional<Grade> findByGradeIdAndTeacher(@Param("gradeId") Integer gradeId,
+                                            @Param("teacherId") Integer teacherId);
+
     @Query("SELECT g FROM Grade g " +
-            "JOIN FETCH g.student " +
-            "WHERE g.assignment.subject.subjectId = :subjectId " +
-            "AND g.assignment.teacher.teacherId = :teacherId " +
-            "ORDER BY g.student.lastName, g.student.firstName")
+            "JOIN FETCH g.student s " +
+            "JOIN FETCH s.user " +
+            "JOIN FETCH g.assignment a " +
+            "JOIN FETCH a.subject sub " +
+            "JOIN FETCH a.group " +
+            "WHERE sub.subjectId = :subjectId " +
+            "AND a.teacher.teacherId = :teacherId " +
+            "ORDER BY s.lastName, s.firstName")
     List<Grade> findByTeacherAndSubject(@Param("teacherId") Integer teacherId,
                                         @Param("subjectId") Integer subjectId);
 
@@ -39,6 +135,12 @@ public interface GradeRepository extends JpaRepository<Grade, Integer> {
     boolean existsByStudentAndAssignment(@Param("studentId") Integer studentId,
                                          @Param("assignmentId") Integer assignmentId);
 
+    @Query("SELECT g.student.studentId FROM Grade g " +
+            "WHERE g.assignment.assignmentId = :assignmentId AND g.student.studentId IN :studentIds")
+    List<Integer> findGradedStudentIds(@Param("assignmentId") Integer assignmentId,
+                                       @Param("studentIds") Collection<Integer> studentIds);
+
+    @EntityGraph(attributePaths = {"student", "student.user", "assignment.subject", "assignment.group"})
     List<Grade> findByAssignment_AssignmentIdOrderByGradeDateDesc(Integer assignmentId);
 
     Long countByStudent_StudentId(Integer studentId);
@@ -53,4 +155,48 @@ public interface GradeRepository extends JpaRepository<Grade, Integer> {
             @Param("studentId") Integer studentId,
             @Param("subjectId") Integer subjectId);
 
-}
\ No newline at end of file
+    @Query("SELECT COUNT(DISTINCT g.student.studentId) FROM Grade g " +
+            "WHERE g.assignment.teacher.teacherId = :teacherId")
+    Long countDistinctStudentsByTeacher(@Param("teacherId") Integer teacherId);
+
+    @Query("SELECT new com.academic.AIS.dto.projection.GradeValueCount(g.gradeValue, COUNT(g)) " +
+            "FROM Grade g JOIN g.assignment a " +
+            "WHERE (:academicYear IS NULL OR a.academicYear = :academicYear) " +
+            "AND (:semester IS NULL OR a.semester = :semester) " +
+            "AND (:subjectId IS NULL OR a.subject.subjectId = :subjectId) " +
+            "AND (:groupId IS NULL OR a.group.groupId = :groupId) " +
+            "AND (:teacherId IS NULL OR a.teacher.teacherId = :teacherId) " +
+            "GROUP BY g.gradeValue")
+    List<GradeValueCount> countByGradeValue(@Param("academicYear") String academicYear,
+                                            @Param("semester") String semester,
+                                            @Param("subjectId") Integer subjectId,
+                                            @Param("groupId") Integer groupId,
+                                            @Param("teacherId") Integer teacherId);
+
+    /**
+     * Streams every grade in export order. The fetch-size hint makes the PostgreSQL driver read through a
+     * server-side cursor instead of buffering the whole result set, which only works inside a transaction;
+     * callers must consume and close the stream within one.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.academic.AIS.dto.projection.GradeExportRow(" +
+            "g.gradeId, g.gradeDate, g.gradeValue, " +
+            "s.studentId, s.firstName, s.lastName, grp.groupName, " +
+            "sub.subjectCode, sub.subjectName, t.firstName, t.lastName, " +
+            "a.academicYear, a.semester, g.comments) " +
+            "FROM Grade g " +
+            "JOIN g.student s " +
+            "JOIN g.assignment a " +
+            "JOIN a.group grp " +
+            "JOIN a.subject sub " +
+            "JOIN a.teacher t " +
+            "WHERE (:academicYear IS NULL OR a.academicYear = :academicYear) " +
+            "AND (:semester IS NULL OR a.semester = :semester) " +
+            "ORDER BY g.gradeId")
+    Stream<GradeExportRow> streamForExport(@Param("academicYear") String academicYear,
+                                           @Param("semester") String semester);
+
+}
@@ -0,0 +1,122 @@
+package com.academic.AIS.repository;
+
+import com.academic.AIS.model.GradeStatistics;
+import com.academic.AIS.model.GradeStatisticsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface GradeStatisticsRepository extends JpaRepository<GradeStatistics, GradeStatisticsId> {
+
+    Optional<GradeStatistics> findByScopeAndScopeId(String scope, Integer scopeId);
+
+    /**
+     * Adds the given deltas to the teacher, student, group and subject rows touched by one grade,
+     * creating missing rows on the fly. The upsert is atomic per row, so concurrent writers never lose updates.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO grade_statistics (scope, scope_id, grade_count, grade_sum, passing_count) VALUES " +
+            "('TEACHER', :teacherId, :countDelta, :sumDelta, :passingDelta), " +
+            "('STUDENT', :studentId, :countDelta, :sumDelta, :passingDelta), " +
+            "('GROUP', :groupId, :countDelta, :sumDelta, :passingDelta), " +
+            "('SUBJECT', :subjectId, :countDelta, :sumDelta, :passingDelta) " +
+            "ON CONFLICT (scope, scope_id) DO UPDATE SET " +
+            "grade_count = grade_statistics.grade_count + EXCLUDED.grade_count, " +
+            "grade_sum = grade_statistics.grade_sum + EXCLUDED.grade_sum, " +
+            "passing_count = grade_statistics.passing_count + EXCLUDED.passing_count",
+            nativeQuery = true)
+    void applyDelta(@Param("teacherId") Integer teacherId,
+                    @Param("studentId") Integer studentId,
+                    @Param("groupId") Integer groupId,
+                    @Param("subjectId") Integer subjectId,
+                    @Param("countDelta") long countDelta,
+                    @Param("sumDelta") long sumDelta,
+                    @Param("passingDelta") long passingDelta);
+
+    /**
+     * Fans each selected grade out to its teacher, student, group and subject row.
+     */
+    String GRADE_SCOPES = "FROM grade g JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+            "CROSS JOIN LATERAL (VALUES ('TEACHER', a.teacher_id), ('STUDENT', g.student_id), " +
+            "('GROUP', a.group_id), ('SUBJECT', a.subject_id)) v(scope, scope_id) ";
+
+    String ADD_GRADES = "INSERT INTO grade_statistics (scope, scope_id, grade_count, grade_sum, passing_count) " +
+            "SELECT v.scope, v.scope_id, COUNT(*), SUM(g.grade_value), " +
+            "SUM(CASE WHEN g.grade_value >= 5 THEN 1 ELSE 0 END) " + GRADE_SCOPES;
+
+    String SUBTRACT_GRADES = "INSERT INTO grade_statistics (scope, scope_id, grade_count, grade_sum, passing_count) " +
+            "SELECT v.scope, v.scope_id, -COUNT(*), -SUM(g.grade_value), " +
+            "-SUM(CASE WHEN g.grade_value >= 5 THEN 1 ELSE 0 END) " + GRADE_SCOPES;
+
+    /**
+     * Same per-row atomic upsert as applyDelta, so these statements can run alongside concurrent grade writes.
+     */
+    String UPSERT_DELTA = "GROUP BY v.scope, v.scope_id " +
+            "ON CONFLICT (scope, scope_id) DO UPDATE SET " +
+            "grade_count = grade_statistics.grade_count + EXCLUDED.grade_count, " +
+            "grade_sum = grade_statistics.grade_sum + EXCLUDED.grade_sum, " +
+            "passing_count = grade_statistics.passing_count + EXCLUDED.passing_count";
+
+    /**
+     * Adds the grades just entered for the given students of one assignment in a single statement,
+     * instead of one applyDelta call per grade. Pending grade inserts are flushed first so they are visible.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = ADD_GRADES +
+            "WHERE g.assignment_id = :assignmentId AND g.student_id IN (:studentIds) " + UPSERT_DELTA,
+            nativeQuery = true)
+    void addAssignmentGrades(@Param("assignmentId") Integer assignmentId,
+                             @Param("studentIds") Collection<Integer> studentIds);
+
+    // The subtract* statements below must run before the delete (or change) that removes the grades, while
+    // the rows they read are still there. They touch only the rows of the affected teachers, students, groups
+    // and subjects, never the whole table.
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = ADD_GRADES + "WHERE g.assignment_id = :assignmentId " + UPSERT_DELTA, nativeQuery = true)
+    void addGradesOfAssignment(@Param("assignmentId") Integer assignmentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SUBTRACT_GRADES + "WHERE g.assignment_id = :assignmentId " + UPSERT_DELTA, nativeQuery = true)
+    void subtractGradesOfAssignment(@Param("assignmentId") Integer assignmentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SUBTRACT_GRADES + "WHERE g.student_id = :studentId " + UPSERT_DELTA, nativeQuery = true)
+    void subtractGradesOfStudent(@Param("studentId") Integer studentId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SUBTRACT_GRADES + "WHERE a.teacher_id = :teacherId " + UPSERT_DELTA, nativeQuery = true)
+    void subtractGradesOfTeacher(@Param("teacherId") Integer teacherId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SUBTRACT_GRADES + "WHERE a.subject_id = :subjectId " + UPSERT_DELTA, nativeQuery = true)
+    void subtractGradesOfSubject(@Param("subjectId") Integer subjectId);
+
+    /**
+     * Deleting a group cascades to its assignments and to its students, so both sets of grades go.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = SUBTRACT_GRADES + "WHERE a.group_id = :groupId " +
+            "OR g.student_id IN (SELECT s.student_id FROM student s WHERE s.group_id = :groupId) " + UPSERT_DELTA,
+            nativeQuery = true)
+    void subtractGradesOfGroup(@Param("groupId") Integer groupId);
+
+    /**
+     * Drops the (by then zeroed) row of a deleted teacher, student, group or subject.
+     */
+    @Modifying
+    @Query("DELETE FROM GradeStatistics s WHERE s.scope = :scope AND s.scopeId = :scopeId")
+    void deleteScope(@Param("scope") String scope, @Param("scopeId") Integer scopeId);
+
+    @Modifying
+    @Query(value = "DELETE FROM grade_statistics WHERE scope = 'STUDENT' " +
+            "AND scope_id IN (SELECT s.student_id FROM student s WHERE s.group_id = :groupId)",
+            nativeQuery = true)
+    void deleteStudentScopesOfGroup(@Param("groupId") Integer groupId);
+}
@@ -0,0 +1,34 @@
+package com.academic.AIS.repository;
+
+import com.academic.AIS.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.jti = :jti")
+    Optional<RefreshToken> findByJtiWithUser(@Param("jti") String jti);
+
+    /**
+     * Marks a token as used. Conditional on it still being active, so of two concurrent refreshes with the
+     * same token exactly one succeeds (returns 1).
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.jti = :jti AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("jti") String jti, @Param("now") Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,10 +1,12 @@
 package com.academic.AIS.repository;
 
 import com.academic.AIS.model.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,56 @@ public interface StudentRepository extends JpaRepository<Student, Integer> {
 
     Long countByGroup_GroupId(Integer groupId);
 
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.group.groupId IN :groupIds")
+    long countByGroupIds(@Param("groupIds") Collection<Integer> groupIds);
+
     List<Student> findByGroup_GroupId(Integer groupId);
 
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT s.studentId FROM Student s " +
+            "WHERE s.group.groupId = :groupId AND s.studentId IN :studentIds")
+    List<Integer> findIdsInGroup(@Param("groupId") Integer groupId,
+                                 @Param("studentIds") Collection<Integer> studentIds);
+
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.group.groupId IN (" +
+            "SELECT sa.group.groupId FROM SubjectAssignment sa WHERE sa.subject.subjectId = :subjectId)")
+    Long countBySubject(@Param("subjectId") Integer subjectId);
+
+    // Keyset pages ordered by (last name, first name, id). The first page has its own query so the cursor
+    // comparison is never wrapped in an IS NULL check and always seeks idx_student_name_keyset.
+
+    @Query("SELECT s FROM Student s " +
+            "JOIN FETCH s.user " +
+            "LEFT JOIN FETCH s.group " +
+            "ORDER BY s.lastName ASC, s.firstName ASC, s.studentId ASC")
+    List<Student> findFirstPage(Pageable pageable);
+
+    @Query("SELECT s FROM Student s " +
+            "JOIN FETCH s.user " +
+            "LEFT JOIN FETCH s.group " +
+            "WHERE (s.lastName, s.firstName, s.studentId) > (:afterLastName, :afterFirstName, :afterId) " +
+            "ORDER BY s.lastName ASC, s.firstName ASC, s.studentId ASC")
+    List<Student> findPageAfter(@Param("afterLastName") String afterLastName,
+                                @Param("afterFirstName") String afterFirstName,
+                                @Param("afterId") Integer afterId,
+                                Pageable pageable);
+
+    @Query("SELECT s FROM Student s " +
+            "JOIN FETCH s.user " +
+            "LEFT JOIN FETCH s.group " +
+            "ORDER BY s.lastName DESC, s.firstName DESC, s.studentId DESC")
+    List<Student> findFirstPageDescending(Pageable pageable);
+
+    @Query("SELECT s FROM Student s " +
+            "JOIN FETCH s.user " +
+            "LEFT JOIN FETCH s.group " +
+            "WHERE (s.lastName, s.firstName, s.studentId) < (:beforeLastName, :beforeFirstName, :beforeId) " +
+            "ORDER BY s.lastName DESC, s.firstName DESC, s.studentId DESC")
+    List<Student> findPageBefore(@Param("beforeLastName") String beforeLastName,
+                                 @Param("beforeFirstName") String beforeFirstName,
+                                 @Param("beforeId") Integer beforeId,
+                                 Pageable pageable);
+
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.academic.AIS.repository;
 
+import com.academic.AIS.dto.projection.GroupSummary;
 import com.academic.AIS.model.StudyGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,13 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, Integer>
 
     Optional<StudyGroup> findByGroupName(String groupName);
 
+    List<StudyGroup> findByGroupNameIn(Collection<String> groupNames);
+
+    @Query("SELECT new com.academic.AIS.dto.projection.GroupSummary(" +
+            "g.groupId, g.groupName, g.year, COUNT(s)) " +
+            "FROM StudyGroup g LEFT JOIN g.students s " +
+            "GROUP BY g.groupId, g.groupName, g.year " +
+            "ORDER BY g.groupId")
+    List<GroupSummary> findAllSummaries();
+
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.academic.AIS.repository;
 
+import com.academic.AIS.dto.projection.SubjectSummary;
 import com.academic.AIS.model.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +13,17 @@ public interface SubjectRepository extends JpaRepository<Subject, Integer> {
 
     Optional<Subject> findBySubjectCode(String subjectCode);
 
+    /**
+     * One row per subject; teacher, group and year come from its lowest-id assignment, if any.
+     */
+    @Query("SELECT new com.academic.AIS.dto.projection.SubjectSummary(" +
+            "s.subjectId, s.subjectName, s.subjectCode, s.credits, " +
+            "t.firstName, t.lastName, g.groupName, a.academicYear) " +
+            "FROM Subject s LEFT JOIN s.assignments a " +
+            "LEFT JOIN a.teacher t LEFT JOIN a.group g " +
+            "WHERE a.assignmentId IS NULL OR a.assignmentId = " +
+            "(SELECT MIN(a2.assignmentId) FROM SubjectAssignment a2 WHERE a2.subject = s) " +
+            "ORDER BY s.subjectId")
+    List<SubjectSummary> findAllSummaries();
+
 }
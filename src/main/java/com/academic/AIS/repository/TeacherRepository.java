@@ -1,11 +1,13 @@
 package com.academic.AIS.repository;
 
+import com.academic.AIS.dto.projection.TeacherSummary;
 import com.academic.AIS.model.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,9 @@ public interface TeacherRepository extends JpaRepository<Teacher, Integer> {
     @Query("SELECT t FROM Teacher t WHERE t.user.username = :username")
     Optional<Teacher> findByUsername(@Param("username") String username);
 
+    @Query("SELECT new com.academic.AIS.dto.projection.TeacherSummary(" +
+            "t.teacherId, t.firstName, t.lastName, t.email, u.username) " +
+            "FROM Teacher t JOIN t.user u ORDER BY t.teacherId")
+    List<TeacherSummary> findAllSummaries();
+
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.academic.AIS.repository;
 
+import com.academic.AIS.dto.projection.UserIdentity;
 import com.academic.AIS.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +19,29 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    /**
+     * Credentials, role, profile id and display name in one round trip. Only the profile table matching the
+     * account's role is joined, so a stray row in another profile table cannot change the result.
+     */
+    @Query("SELECT new com.academic.AIS.dto.projection.UserIdentity(" +
+            "u.userId, u.username, u.password, u.role, " +
+            "COALESCE(s.studentId, t.teacherId, a.adminId), " +
+            "CASE WHEN s.studentId IS NOT NULL THEN CONCAT(s.firstName, ' ', s.lastName) " +
+            "WHEN t.teacherId IS NOT NULL THEN CONCAT(t.firstName, ' ', t.lastName) " +
+            "WHEN a.adminId IS NOT NULL THEN CONCAT(a.firstName, ' ', a.lastName) END) " +
+            "FROM User u " +
+            "LEFT JOIN Student s ON s.user = u AND u.role = 'STUDENT' " +
+            "LEFT JOIN Teacher t ON t.user = u AND u.role = 'TEACHER' " +
+            "LEFT JOIN Administrator a ON a.user = u AND u.role = 'ADMINISTRATOR' " +
+            "WHERE u.username = :username")
+    Optional<UserIdentity> findIdentityByUsername(@Param("username") String username);
+
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
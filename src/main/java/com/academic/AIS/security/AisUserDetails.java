@@ -0,0 +1,40 @@
+package com.academic.AIS.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+/**
+ * Form-login principal carrying the role and domain profile resolved when the user was loaded, so neither
+ * the success handler nor later requests need to look them up again.
+ */
+public class AisUserDetails extends User {
+
+    private final String role;
+    private final Integer userId;
+    private final Integer profileId;
+    private final String displayName;
+
+    public AisUserDetails(String username, String password, String role, Integer userId,
+                          Integer profileId, String displayName) {
+        super(username, password, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        this.role = role;
+        this.userId = userId;
+        this.profileId = profileId;
+        this.displayName = displayName;
+    }
+
+    public AisUserDetails withPassword(String password) {
+        return new AisUserDetails(getUsername(), password, role, userId, profileId, displayName);
+    }
+
+    public UserProfile getProfile() {
+        return new UserProfile(profileId, displayName);
+    }
+
+    public String getRole() { return role; }
+    public Integer getUserId() { return userId; }
+    public Integer getProfileId() { return profileId; }
+    public String getDisplayName() { return displayName; }
+}
@@ -0,0 +1,112 @@
+package com.academic.AIS.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Login observability without per-login console output.
+ * <ul>
+ *   <li>{@code ais.auth.login} timer: login latency by channel (form/api), outcome (success/failure/rejected)
+ *       and role</li>
+ *   <li>{@code ais.auth.profile.lookup} timer: display-name/profile lookup latency by role</li>
+ *   <li>{@code ais.auth.login.redirect} counter: post-login redirect target by role</li>
+ * </ul>
+ * A sampled fraction of logins (ais.auth.debug-sample-rate, off by default) is also logged as a single
+ * key=value line at DEBUG.
+ */
+@Component
+public class AuthMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.academic.AIS.security.auth");
+
+    public static final String CHANNEL_FORM = "form";
+    public static final String CHANNEL_API = "api";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    private static final String UNKNOWN_ROLE = "unknown";
+    private static final String LOGIN_STARTED_ATTRIBUTE = AuthMetrics.class.getName() + ".started";
+
+    private final MeterRegistry meterRegistry;
+    private final double debugSampleRate;
+
+    @Autowired
+    public AuthMetrics(MeterRegistry meterRegistry,
+                       @Value("${ais.auth.debug-sample-rate:0.0}") double debugSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.debugSampleRate = debugSampleRate;
+    }
+
+    /**
+     * Marks the start of a form login; the success or failure handler records the elapsed time.
+     */
+    public void loginStarted(HttpServletRequest request) {
+        request.setAttribute(LOGIN_STARTED_ATTRIBUTE, System.nanoTime());
+    }
+
+    /**
+     * Records a form login that reached a success or failure handler, timed from {@link #loginStarted}.
+     */
+    public void recordFormLogin(HttpServletRequest request, String outcome, String role) {
+        Object started = request.getAttribute(LOGIN_STARTED_ATTRIBUTE);
+        if (started instanceof Long startNanos) {
+            recordLogin(CHANNEL_FORM, outcome, role, Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    public void recordLogin(String channel, String outcome, String role, Duration elapsed) {
+        Timer.builder("ais.auth.login")
+                .description("Time to authenticate a login attempt")
+                .tag("channel", channel)
+                .tag("outcome", outcome)
+                .tag("role", role != null ? role : UNKNOWN_ROLE)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    public void recordProfileLookup(String role, Duration elapsed) {
+        Timer.builder("ais.auth.profile.lookup")
+                .description("Time to load the account with its profile id and display name at login")
+                .tag("role", role != null ? role : UNKNOWN_ROLE)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    public void countRedirect(String role, String target) {
+        Counter.builder("ais.auth.login.redirect")
+                .description("Post-login redirects by target")
+                .tag("role", role != null ? role : UNKNOWN_ROLE)
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Logs one structured line for a sampled fraction of events; the message is only built when sampled.
+     *
+     * @param keyValues alternating keys and values
+     */
+    public void debugSampled(String event, Object... keyValues) {
+        if (debugSampleRate <= 0.0 || !logger.isDebugEnabled()
+                || ThreadLocalRandom.current().nextDouble() >= debugSampleRate) {
+            return;
+        }
+        StringBuilder line = new StringBuilder("event=").append(event);
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            line.append(' ').append(keyValues[i]).append('=').append(keyValues[i + 1]);
+        }
+        logger.debug(line.toString());
+    }
+}
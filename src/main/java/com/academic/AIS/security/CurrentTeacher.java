@@ -0,0 +1,17 @@
+package com.academic.AIS.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the authenticated teacher's id to an {@code Integer} controller parameter.
+ * The id comes from the access token or the web session, see {@link CurrentTeacherArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentTeacher {
+}
@@ -0,0 +1,71 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.model.Teacher;
+import com.academic.AIS.service.TeacherManagementService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentTeacher} parameters without a database round trip: API requests read the
+ * profileId claim exposed by {@link JwtAuthenticationFilter}, form-login requests read the id stored in the
+ * session by {@link CustomAuthenticationSuccessHandler}. Tokens and sessions created before the id was
+ * carried fall back to one lookup, which is then kept in the session.
+ */
+@Component
+public class CurrentTeacherArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final TeacherManagementService teacherManagementService;
+
+    @Autowired
+    public CurrentTeacherArgumentResolver(TeacherManagementService teacherManagementService) {
+        this.teacherManagementService = teacherManagementService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentTeacher.class)
+                && Integer.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Integer resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (request == null || authentication == null) {
+            throw new IllegalStateException("No authenticated teacher for this request");
+        }
+        String username = authentication.getName();
+
+        if ("TEACHER".equals(request.getAttribute("role"))
+                && request.getAttribute(UserProfile.PROFILE_ID_ATTRIBUTE) instanceof Integer teacherId) {
+            return teacherId;
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null && username.equals(session.getAttribute("username"))
+                && "TEACHER".equals(session.getAttribute("role"))
+                && session.getAttribute(UserProfile.PROFILE_ID_ATTRIBUTE) instanceof Integer teacherId) {
+            return teacherId;
+        }
+
+        Teacher teacher = teacherManagementService.getTeacherByUsername(username)
+                .orElseThrow(() -> new IllegalStateException("Teacher profile not found for user: " + username));
+        if (session != null) {
+            session.setAttribute("username", username);
+            session.setAttribute("role", "TEACHER");
+            session.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, teacher.getTeacherId());
+            session.setAttribute(UserProfile.DISPLAY_NAME_ATTRIBUTE, teacher.getFullName());
+        }
+        return teacher.getTeacherId();
+    }
+}
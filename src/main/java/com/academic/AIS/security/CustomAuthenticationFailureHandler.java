@@ -0,0 +1,37 @@
+package com.academic.AIS.security;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Form-login failure: records the attempt in {@link AuthMetrics} and redirects to /login?error as before.
+ */
+@Component
+public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    private final AuthMetrics authMetrics;
+
+    @Autowired
+    public CustomAuthenticationFailureHandler(AuthMetrics authMetrics) {
+        super("/login?error");
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        authMetrics.recordFormLogin(request, AuthMetrics.OUTCOME_FAILURE, null);
+        authMetrics.debugSampled("login_failure", "channel", AuthMetrics.CHANNEL_FORM,
+                "user", request.getParameter("username"), "reason", exception.getClass().getSimpleName());
+
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
@@ -1,59 +1,51 @@
 package com.academic.AIS.security;
 
-import com.academic.AIS.model.Administrator;
-import com.academic.AIS.model.Student;
-import com.academic.AIS.model.Teacher;
-import com.academic.AIS.repository.AdministratorRepository;
-import com.academic.AIS.repository.StudentRepository;
-import com.academic.AIS.repository.TeacherRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
-
 @Component
 public class CustomAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
-    @Autowired
-    private StudentRepository studentRepository;
+    private final AuthMetrics authMetrics;
+    private final boolean cookieSessions;
 
     @Autowired
-    private TeacherRepository teacherRepository;
-
-    @Autowired
-    private AdministratorRepository administratorRepository;
+    public CustomAuthenticationSuccessHandler(AuthMetrics authMetrics,
+                                              @Value("${ais.security.web-session:server}") String webSessionMode) {
+        this.authMetrics = authMetrics;
+        this.cookieSessions = "cookie".equalsIgnoreCase(webSessionMode);
+    }
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
-
-        System.out.println("=== AUTHENTICATION SUCCESS ===");
-
         String username = authentication.getName();
-        System.out.println("Username: " + username);
-        System.out.println("Authorities: " + authentication.getAuthorities());
-
         String role = authentication.getAuthorities().iterator().next()
                 .getAuthority()
                 .replace("ROLE_", "");
 
-        System.out.println("Role (cleaned): " + role);
-
-        String displayName = getDisplayName(username, role);
-        System.out.println("Display Name: " + displayName);
+        // Resolved with the user at authentication time; controllers read it instead of querying it
+        UserProfile profile = authentication.getPrincipal() instanceof AisUserDetails details
+                ? details.getProfile()
+                : new UserProfile(null, username);
 
-        request.getSession().setAttribute("username", username);
-        request.getSession().setAttribute("role", role);
-        request.getSession().setAttribute("displayName", displayName);
-
-        System.out.println("Session attributes set successfully");
+        if (!cookieSessions) {
+            HttpSession session = request.getSession();
+            session.setAttribute("username", username);
+            session.setAttribute("role", role);
+            session.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, profile.getProfileId());
+            session.setAttribute(UserProfile.DISPLAY_NAME_ATTRIBUTE, profile.getDisplayName());
+        }
 
         String redirectUrl = switch (role) {
             case "ADMINISTRATOR" -> "/admin/dashboard";
@@ -62,44 +54,11 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             default -> "/login";
         };
 
-        System.out.println("Redirecting to: " + redirectUrl);
-        System.out.println("=== END AUTHENTICATION SUCCESS ===");
+        authMetrics.countRedirect(role, redirectUrl);
+        authMetrics.recordFormLogin(request, AuthMetrics.OUTCOME_SUCCESS, role);
+        authMetrics.debugSampled("login_success", "channel", AuthMetrics.CHANNEL_FORM, "user", username,
+                "role", role, "profileFound", profile.getProfileId() != null, "redirect", redirectUrl);
 
         response.sendRedirect(redirectUrl);
     }
-
-    private String getDisplayName(String username, String role) {
-        System.out.println("  -> Fetching display name for: " + username + " with role: " + role);
-
-        String displayName = switch (role) {
-            case "STUDENT" -> {
-                System.out.println("  -> Querying StudentRepository...");
-                yield studentRepository.findByUsername(username)
-                        .map(Student::getFullName)
-                        .orElse(username);
-            }
-
-            case "TEACHER" -> {
-                System.out.println("  -> Querying TeacherRepository...");
-                yield teacherRepository.findByUsername(username)
-                        .map(Teacher::getFullName)
-                        .orElse(username);
-            }
-
-            case "ADMINISTRATOR" -> {
-                System.out.println("  -> Querying AdministratorRepository...");
-                yield administratorRepository.findByUsername(username)
-                        .map(Administrator::getFullName)
-                        .orElse(username);
-            }
-
-            default -> {
-                System.out.println("  -> Unknown role, using username");
-                yield username;
-            }
-        };
-
-        System.out.println("  -> Display name result: " + displayName);
-        return displayName;
-    }
-}
\ No newline at end of file
+}
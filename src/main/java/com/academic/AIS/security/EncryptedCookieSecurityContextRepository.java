@@ -0,0 +1,246 @@
+package com.academic.AIS.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Keeps the web login in an AES-GCM encrypted, authenticated cookie instead of the HTTP session, so any node
+ * can serve any request and no per-user state is held in server memory. Used when
+ * ais.security.web-session=cookie.
+ * <p>
+ * The cookie carries the username, role, user id, profile id and display name, and expires after a fixed
+ * lifetime (there is no sliding renewal). Loading it exposes the profile as request attributes, the same way
+ * {@link JwtAuthenticationFilter} does for API tokens.
+ * <p>
+ * There is no revocation: logout only deletes the cookie in the browser, so a copy captured earlier stays
+ * valid until it expires (max-age, 8h by default). Use the server or jdbc session mode where that matters.
+ */
+public class EncryptedCookieSecurityContextRepository implements SecurityContextRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EncryptedCookieSecurityContextRepository.class);
+
+    private static final String FORMAT_VERSION = "1";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String cookieName;
+    private final SecretKey key;
+    private final Duration maxAge;
+    private final boolean secure;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public EncryptedCookieSecurityContextRepository(String cookieName, String secret, Duration maxAge,
+                                                    boolean secure, Clock clock) {
+        this.cookieName = cookieName;
+        this.key = deriveKey(secret);
+        this.maxAge = maxAge;
+        this.secure = secure;
+        this.clock = clock;
+    }
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new DeferredSecurityContext() {
+            private SecurityContext context;
+            private boolean generated;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    context = SecurityContextHolder.createEmptyContext();
+                    AisUserDetails principal = read(request);
+                    if (principal != null) {
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                principal, null, principal.getAuthorities()));
+                        request.setAttribute("userId", principal.getUserId());
+                        request.setAttribute("role", principal.getRole());
+                        request.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, principal.getProfileId());
+                        request.setAttribute(UserProfile.DISPLAY_NAME_ATTRIBUTE, principal.getDisplayName());
+                    } else {
+                        generated = true;
+                    }
+                }
+                return context;
+            }
+
+            @Override
+            public boolean isGenerated() {
+                get();
+                return generated;
+            }
+        };
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return loadDeferredContext(requestResponseHolder.getRequest()).get();
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            if (containsContext(request)) {
+                writeCookie(response, "", Duration.ZERO);
+            }
+            return;
+        }
+        writeCookie(response, encode(toPrincipal(authentication)), maxAge);
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return findCookie(request) != null;
+    }
+
+    String encode(AisUserDetails principal) {
+        String payload = String.join("|",
+                FORMAT_VERSION,
+                encodeText(principal.getUsername()),
+                encodeText(principal.getRole()),
+                encodeNumber(principal.getUserId()),
+                encodeNumber(principal.getProfileId()),
+                encodeText(principal.getDisplayName()),
+                String.valueOf(clock.instant().plus(maxAge).getEpochSecond()));
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            cipher.updateAAD(cookieName.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+
+            byte[] value = new byte[IV_LENGTH + encrypted.length];
+            System.arraycopy(iv, 0, value, 0, IV_LENGTH);
+            System.arraycopy(encrypted, 0, value, IV_LENGTH, encrypted.length);
+            return ENCODER.encodeToString(value);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt session cookie", e);
+        }
+    }
+
+    /**
+     * @return the principal stored in the cookie, or null if it is absent, tampered with or expired
+     */
+    AisUserDetails decode(String value) {
+        try {
+            byte[] bytes = DECODER.decode(value);
+            if (bytes.length <= IV_LENGTH) {
+                return null;
+            }
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, bytes, 0, IV_LENGTH));
+            cipher.updateAAD(cookieName.getBytes(StandardCharsets.UTF_8));
+            String payload = new String(cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH),
+                    StandardCharsets.UTF_8);
+
+            String[] fields = payload.split("\\|", -1);
+            if (fields.length != 7 || !FORMAT_VERSION.equals(fields[0])) {
+                return null;
+            }
+            if (Long.parseLong(fields[6]) <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+            return new AisUserDetails(decodeText(fields[1]), "", decodeText(fields[2]), decodeNumber(fields[3]),
+                    decodeNumber(fields[4]), decodeText(fields[5]));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            logger.debug("Ignoring invalid session cookie: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private AisUserDetails read(HttpServletRequest request) {
+        Cookie cookie = findCookie(request);
+        return cookie != null ? decode(cookie.getValue()) : null;
+    }
+
+    private Cookie findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, Duration cookieMaxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .maxAge(cookieMaxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static AisUserDetails toPrincipal(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AisUserDetails details) {
+            return details;
+        }
+        String role = authentication.getAuthorities().iterator().next().getAuthority().replace("ROLE_", "");
+        return new AisUserDetails(authentication.getName(), "", role, null, null, authentication.getName());
+    }
+
+    private static SecretKey deriveKey(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(("ais-session-cookie:" + secret).getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(digest, "AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String encodeText(String value) {
+        return value != null ? ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8)) : "";
+    }
+
+    private static String decodeText(String value) {
+        return value.isEmpty() ? null : new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static String encodeNumber(Integer value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static Integer decodeNumber(String value) {
+        return value.isEmpty() ? null : Integer.valueOf(value);
+    }
+}
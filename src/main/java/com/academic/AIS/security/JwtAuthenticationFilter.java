@@ -1,5 +1,6 @@
 package com.academic.AIS.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,40 +20,56 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
     @Autowired
-    private JwtTokenProvider tokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   TokenRevocationList tokenRevocationList) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
+        String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                String role = tokenProvider.getRoleFromToken(jwt);
-                Integer userId = tokenProvider.getUserIdFromToken(jwt);
+        if (StringUtils.hasText(jwt)) {
+            try {
+                // At most one signature verification per request; repeat tokens are served from the cache
+                JwtClaims claims = verifiedTokenCache.resolve(jwt);
+                if (claims.isAccessToken() && !tokenRevocationList.isRevoked(claims)) {
+                    authenticate(claims, request);
+                }
+            } catch (JwtException | IllegalArgumentException ex) {
+                logger.debug("Rejected JWT: " + ex.getMessage());
+            } catch (Exception ex) {
+                logger.error("Could not set user authentication in security context", ex);
+            }
+        }
 
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+        filterChain.doFilter(request, response);
+    }
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null,
-                                Collections.singletonList(authority));
+    private void authenticate(JwtClaims claims, HttpServletRequest request) {
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + claims.getRole());
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(claims.getUsername(), null,
+                        Collections.singletonList(authority));
 
-                // Store userId in authentication for easy access
-                request.setAttribute("userId", userId);
-                request.setAttribute("role", role);
+        authentication.setDetails(detailsSource.buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
-        }
+        // Store userId in authentication for easy access
+        request.setAttribute("userId", claims.getUserId());
+        request.setAttribute("role", claims.getRole());
+        request.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, claims.getProfileId());
+        request.setAttribute(UserProfile.DISPLAY_NAME_ATTRIBUTE, claims.getDisplayName());
 
-        filterChain.doFilter(request, response);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
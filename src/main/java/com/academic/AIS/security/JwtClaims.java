@@ -0,0 +1,66 @@
+package com.academic.AIS.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Verified contents of a JWT, extracted once per request by {@link JwtTokenProvider#parse(String)}.
+ */
+public final class JwtClaims {
+
+    private final String tokenId;
+    private final String username;
+    private final String role;
+    private final Integer userId;
+    private final Integer profileId;
+    private final String displayName;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public JwtClaims(String tokenId, String username, String role, Integer userId,
+                     Instant issuedAt, Instant expiresAt) {
+        this(tokenId, username, role, userId, null, null, issuedAt, expiresAt);
+    }
+
+    public JwtClaims(String tokenId, String username, String role, Integer userId, Integer profileId,
+                     String displayName, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.role = role;
+        this.userId = userId;
+        this.profileId = profileId;
+        this.displayName = displayName;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("userId", Integer.class),
+                claims.get("profileId", Integer.class),
+                claims.get("displayName", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    /**
+     * Refresh tokens carry only a subject; only access tokens may authenticate API requests.
+     */
+    public boolean isAccessToken() {
+        return role != null;
+    }
+
+    public String getTokenId() { return tokenId; }
+    public String getUsername() { return username; }
+    public String getRole() { return role; }
+    public Integer getUserId() { return userId; }
+    /** Id of the student, teacher or administrator profile; absent in tokens issued before it was added. */
+    public Integer getProfileId() { return profileId; }
+    public String getDisplayName() { return displayName; }
+    public Instant getIssuedAt() { return issuedAt; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -2,8 +2,8 @@ package com.academic.AIS.security;
 
 
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,88 +11,103 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${JWT_SECRET}")
-    private String jwtSecret;
-
-    @Value("${JWT_EXPIRATION}")
-    private long jwtExpiration;
-
-    @Value("${JWT_REFRESH_EXPIRATION}")
-    private long refreshExpiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+
+    // Derived once; both are immutable and safe to share across request threads
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(@Value("${JWT_SECRET}") String jwtSecret,
+                            @Value("${JWT_EXPIRATION}") long jwtExpiration,
+                            @Value("${JWT_REFRESH_EXPIRATION}") long refreshExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(String username, String role, Integer userId) {
+        return generateToken(username, role, userId, null, null);
+    }
+
+    /**
+     * @param profileId   id of the user's student/teacher/administrator row, so requests need not look it up
+     * @param displayName full name shown in the UI
+     */
+    public String generateToken(String username, String role, Integer userId, Integer profileId,
+                                String displayName) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim("role", role)
                 .claim("userId", userId)
+                .claim("profileId", profileId)
+                .claim("displayName", displayName)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String generateRefreshToken(String username) {
+    /**
+     * @param jti id of the server-side refresh token record this token stands for
+     */
+    public String generateRefreshToken(String username, String jti) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpiration);
 
         return Jwts.builder()
+                .id(jti)
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
 
-        return claims.getSubject();
+    /**
+     * Verifies the signature and expiry once and returns every claim the application uses.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public JwtClaims parse(String token) {
+        return JwtClaims.from(parser.parseSignedClaims(token).getPayload());
     }
 
-    public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public String getUsernameFromToken(String token) {
+        return parse(token).getUsername();
+    }
 
-        return claims.get("role", String.class);
+    public String getRoleFromToken(String token) {
+        return parse(token).getRole();
     }
 
     public Integer getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("userId", Integer.class);
+        return parse(token).getUserId();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parse(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps concurrent login attempts per username and per client address, so one account or one client cannot
+ * take over the password-verify pool. Counters exist only while attempts are in flight.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Map<String, Integer> inFlightByUsername = new ConcurrentHashMap<>();
+    private final Map<String, Integer> inFlightByAddress = new ConcurrentHashMap<>();
+    private final int maxPerUsername;
+    private final int maxPerAddress;
+    private final long retryAfterSeconds;
+
+    public LoginThrottle(@Value("${ais.login.max-concurrent-per-username:2}") int maxPerUsername,
+                         @Value("${ais.login.max-concurrent-per-address:10}") int maxPerAddress,
+                         @Value("${ais.login.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.maxPerUsername = maxPerUsername;
+        this.maxPerAddress = maxPerAddress;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Registers a login attempt; close the returned permit when the attempt completes.
+     *
+     * @throws ServiceBusyException if the username or address already has the maximum attempts in flight
+     */
+    public Permit acquire(String username, String address) {
+        String usernameKey = username != null ? username.trim().toLowerCase(Locale.ROOT) : "";
+        String addressKey = address != null ? address : "";
+
+        if (!tryAcquire(inFlightByAddress, addressKey, maxPerAddress)) {
+            throw new ServiceBusyException("Too many sign-in attempts from this address", retryAfterSeconds);
+        }
+        if (!tryAcquire(inFlightByUsername, usernameKey, maxPerUsername)) {
+            release(inFlightByAddress, addressKey);
+            throw new ServiceBusyException("Too many sign-in attempts for this account", retryAfterSeconds);
+        }
+        return new Permit(usernameKey, addressKey);
+    }
+
+    private static boolean tryAcquire(Map<String, Integer> inFlight, String key, int limit) {
+        boolean[] acquired = new boolean[1];
+        inFlight.compute(key, (k, current) -> {
+            int count = current != null ? current : 0;
+            if (count >= limit) {
+                return current;
+            }
+            acquired[0] = true;
+            return count + 1;
+        });
+        return acquired[0];
+    }
+
+    private static void release(Map<String, Integer> inFlight, String key) {
+        inFlight.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public final class Permit implements AutoCloseable {
+        private final String usernameKey;
+        private final String addressKey;
+        private boolean released;
+
+        private Permit(String usernameKey, String addressKey) {
+            this.usernameKey = usernameKey;
+            this.addressKey = addressKey;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(inFlightByUsername, usernameKey);
+                release(inFlightByAddress, addressKey);
+            }
+        }
+    }
+}
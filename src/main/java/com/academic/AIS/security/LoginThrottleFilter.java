@@ -0,0 +1,67 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link LoginThrottle} to form logins and turns an overloaded password-verify pool into
+ * 503 + Retry-After instead of a server error. API logins are throttled in the auth controller.
+ * <p>
+ * Added to the security chain by {@code SecurityConfig}; deliberately not a bean so that it is not also
+ * registered as a servlet filter.
+ */
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginThrottle loginThrottle;
+    private final AuthMetrics authMetrics;
+    private final String loginProcessingUrl;
+
+    public LoginThrottleFilter(LoginThrottle loginThrottle, AuthMetrics authMetrics, String loginProcessingUrl) {
+        this.loginThrottle = loginThrottle;
+        this.authMetrics = authMetrics;
+        this.loginProcessingUrl = loginProcessingUrl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !loginProcessingUrl.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        authMetrics.loginStarted(request);
+        try (LoginThrottle.Permit permit = loginThrottle.acquire(
+                request.getParameter("username"), request.getRemoteAddr())) {
+            filterChain.doFilter(request, response);
+        } catch (ServiceBusyException e) {
+            reject(request, response, e);
+        } catch (ServletException | RuntimeException e) {
+            if (!(e.getCause() instanceof ServiceBusyException busy)) {
+                throw e;
+            }
+            reject(request, response, busy);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, ServiceBusyException e)
+            throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        logger.warn("Form login shed: " + e.getMessage());
+        authMetrics.recordFormLogin(request, AuthMetrics.OUTCOME_REJECTED, null);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+    }
+}
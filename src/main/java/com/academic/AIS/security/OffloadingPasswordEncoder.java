@@ -0,0 +1,75 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link #matches} on the bounded password-verify pool so that login bursts cannot occupy every request
+ * thread with hashing. When the pool's queue is full, or a verification waits longer than the timeout, the
+ * login fails fast with {@link ServiceBusyException}.
+ * <p>
+ * A timed-out verification is cancelled, but BCrypt never checks the interrupt flag, so the hash already
+ * running keeps its pool thread until it finishes; cancellation only frees the caller and drops tasks still
+ * queued. The pool size, not the timeout, is what bounds the CPU spent on hashing.
+ * <p>
+ * {@link #encode} stays on the calling thread: registration is rare and bulk imports have their own pool.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, AsyncTaskExecutor executor,
+                                     Duration timeout, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (TaskRejectedException e) {
+            throw new ServiceBusyException("Too many sign-ins in progress, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new ServiceBusyException("Too many sign-ins in progress, please retry shortly", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Sign-in was interrupted, please retry", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
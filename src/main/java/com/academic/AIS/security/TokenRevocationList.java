@@ -0,0 +1,63 @@
+package com.academic.AIS.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of access tokens that must be rejected before they expire, consulted on every API request.
+ * Individual tokens are revoked by jti (logout); a user's tokens can be revoked wholesale by issue time
+ * (refresh-token reuse). Entries are dropped once the tokens they cover have expired anyway, so the set
+ * stays as small as the number of recent revocations.
+ * <p>
+ * The list is per instance and lost on restart; access tokens are short-lived, so that window is bounded by
+ * jwt.expiration.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedUsers = new ConcurrentHashMap<>();
+    private final Duration accessTokenLifetime;
+
+    public TokenRevocationList(@Value("${JWT_EXPIRATION}") long jwtExpiration) {
+        this.accessTokenLifetime = Duration.ofMillis(jwtExpiration);
+    }
+
+    public void revoke(JwtClaims claims) {
+        if (claims.getTokenId() != null && claims.getExpiresAt() != null) {
+            revokedTokenIds.put(claims.getTokenId(), claims.getExpiresAt());
+        }
+    }
+
+    /**
+     * Rejects every token of the user issued before the current second. JWT issue times have second
+     * precision, so the cutoff is compared at that precision: a login in the same second as the revocation
+     * keeps its token, at the cost of also sparing any other token minted within that second.
+     */
+    public void revokeUser(String username) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokedUsers.merge(username, cutoff, (previous, next) -> next.isAfter(previous) ? next : previous);
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.getTokenId() != null && revokedTokenIds.containsKey(claims.getTokenId())) {
+            return true;
+        }
+        Instant cutoff = revokedUsers.get(claims.getUsername());
+        return cutoff != null && (claims.getIssuedAt() == null || claims.getIssuedAt().isBefore(cutoff));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        revokedUsers.values().removeIf(cutoff -> cutoff.plus(accessTokenLifetime).isBefore(now));
+    }
+}
@@ -1,33 +1,62 @@
-
 package com.academic.AIS.security;
 
-import com.academic.AIS.model.User;
+import com.academic.AIS.dto.projection.UserIdentity;
 import com.academic.AIS.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.Duration;
 
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
 
     @Autowired
-    private UserRepository userRepository;
+    public UserDetailsServiceImpl(UserRepository userRepository, AuthMetrics authMetrics) {
+        this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
+    }
 
+    /**
+     * Loads the account together with its profile in a single query.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        long lookupStarted = System.nanoTime();
+        UserIdentity identity = userRepository.findIdentityByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
+        authMetrics.recordProfileLookup(identity.getRole(), Duration.ofNanos(System.nanoTime() - lookupStarted));
+
+        return new AisUserDetails(
+                identity.getUsername(),
+                identity.getPassword(),
+                identity.getRole(),
+                identity.getUserId(),
+                identity.getProfileId(),
+                identity.getDisplayName()
         );
     }
+
+    /**
+     * Stores the re-encoded password after a form login whose stored hash used an outdated encoding.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if (user instanceof AisUserDetails details) {
+            return details.withPassword(newPassword);
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
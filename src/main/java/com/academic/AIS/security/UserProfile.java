@@ -0,0 +1,38 @@
+package com.academic.AIS.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * The signed-in user's domain profile: the student, teacher or administrator id and the name shown in the UI.
+ * Resolved once at login and carried in the access token and the web session.
+ */
+public final class UserProfile {
+
+    public static final String PROFILE_ID_ATTRIBUTE = "profileId";
+    public static final String DISPLAY_NAME_ATTRIBUTE = "displayName";
+
+    private final Integer profileId;
+    private final String displayName;
+
+    public UserProfile(Integer profileId, String displayName) {
+        this.profileId = profileId;
+        this.displayName = displayName;
+    }
+
+    public Integer getProfileId() { return profileId; }
+    public String getDisplayName() { return displayName; }
+
+    /**
+     * Display name of the signed-in user: a request attribute when the login lives in a token or cookie,
+     * otherwise the session attribute. Never creates a session.
+     */
+    public static String currentDisplayName(HttpServletRequest request) {
+        Object displayName = request.getAttribute(DISPLAY_NAME_ATTRIBUTE);
+        if (displayName == null) {
+            HttpSession session = request.getSession(false);
+            displayName = session != null ? session.getAttribute(DISPLAY_NAME_ATTRIBUTE) : null;
+        }
+        return displayName != null ? displayName.toString() : null;
+    }
+}
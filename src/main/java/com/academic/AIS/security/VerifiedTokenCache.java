@@ -0,0 +1,108 @@
+package com.academic.AIS.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers the claims of recently verified bearer tokens so clients that resend the same token skip
+ * signature verification and claim parsing. Entries are keyed by a SHA-256 of the token (the token itself
+ * is never stored) and expire exactly when the token does. Hit/miss counts are published as
+ * cache.gets{cache=jwt.verified}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String METRIC_NAME = "jwt.verified";
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, JwtClaims> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${ais.security.token-cache.enabled:true}") boolean enabled,
+                              @Value("${ais.security.token-cache.maximum-size:10000}") long maximumSize) {
+        this.tokenProvider = tokenProvider;
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the claims of a valid token, verifying it only if it is not already cached.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public JwtClaims resolve(String token) {
+        if (cache == null) {
+            return tokenProvider.parse(token);
+        }
+        return cache.get(keyOf(token), key -> tokenProvider.parse(token));
+    }
+
+    public void invalidate(String token) {
+        if (cache != null) {
+            cache.invalidate(keyOf(token));
+        }
+    }
+
+    /**
+     * Drops every cached token of one user, e.g. after their tokens have been revoked.
+     */
+    public void invalidateUser(String username) {
+        if (cache != null) {
+            cache.asMap().values().removeIf(claims -> username.equals(claims.getUsername()));
+        }
+    }
+
+    private static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            if (claims.getExpiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), claims.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
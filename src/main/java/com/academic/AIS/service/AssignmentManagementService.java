@@ -1,5 +1,6 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.config.CacheConfig;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
@@ -7,6 +8,7 @@ import com.academic.AIS.model.StudyGroup;
 import com.academic.AIS.model.Subject;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.model.Teacher;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import com.academic.AIS.repository.SubjectRepository;
@@ -14,10 +16,13 @@ import com.academic.AIS.repository.TeacherRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
@@ -25,22 +30,29 @@ public class AssignmentManagementService {
 
     private static final Logger logger = LoggerFactory.getLogger(AssignmentManagementService.class);
 
+    private static final Pattern ACADEMIC_YEAR = Pattern.compile("\\d{4}/\\d{4}");
+    private static final List<String> VALID_SEMESTERS = List.of("Fall", "Spring", "Summer", "Winter");
+
     private final SubjectAssignmentRepository assignmentRepository;
     private final SubjectRepository subjectRepository;
     private final TeacherRepository teacherRepository;
     private final StudyGroupRepository studyGroupRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
     public AssignmentManagementService(SubjectAssignmentRepository assignmentRepository,
                                        SubjectRepository subjectRepository,
                                        TeacherRepository teacherRepository,
-                                       StudyGroupRepository studyGroupRepository) {
+                                       StudyGroupRepository studyGroupRepository,
+                                       GradeStatisticsRepository gradeStatisticsRepository) {
         this.assignmentRepository = assignmentRepository;
         this.subjectRepository = subjectRepository;
         this.teacherRepository = teacherRepository;
         this.studyGroupRepository = studyGroupRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public SubjectAssignment createAssignment(Integer subjectId, Integer teacherId,
                                               Integer groupId, String academicYear, String semester) {
         logger.info("Creating assignment: Subject={}, Teacher={}, Group={}, Year={}, Semester={}",
@@ -79,6 +91,7 @@ public class AssignmentManagementService {
         return assignment;
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public SubjectAssignment updateAssignment(Integer assignmentId, Integer subjectId,
                                               Integer teacherId, Integer groupId,
                                               String academicYear, String semester) {
@@ -101,6 +114,15 @@ public class AssignmentManagementService {
 
         validateAssignmentData(academicYear, semester);
 
+        boolean gradesMoved = !Objects.equals(subject.getSubjectId(), assignment.getSubject().getSubjectId())
+                || !Objects.equals(teacher.getTeacherId(), assignment.getTeacher().getTeacherId())
+                || !Objects.equals(group.getGroupId(), assignment.getGroup().getGroupId());
+
+        if (gradesMoved) {
+            // Take the grades off the old teacher/group/subject rows before the change is flushed
+            gradeStatisticsRepository.subtractGradesOfAssignment(assignmentId);
+        }
+
         assignment.setSubject(subject);
         assignment.setTeacher(teacher);
         assignment.setGroup(group);
@@ -108,10 +130,16 @@ public class AssignmentManagementService {
         assignment.setSemester(semester);
 
         assignment = assignmentRepository.save(assignment);
+
+        if (gradesMoved) {
+            gradeStatisticsRepository.addGradesOfAssignment(assignmentId);
+        }
+
         logger.info("Assignment updated successfully: {}", assignmentId);
         return assignment;
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public void deleteAssignment(Integer assignmentId) {
         logger.info("Attempting to delete assignment ID: {}", assignmentId);
 
@@ -127,10 +155,16 @@ public class AssignmentManagementService {
             logger.warn("Deleting assignment {} which has {} grades", assignmentId, gradeCount);
         }
 
+        if (gradeCount > 0) {
+            gradeStatisticsRepository.subtractGradesOfAssignment(assignmentId);
+        }
+
         assignmentRepository.deleteById(assignmentId);
+
         logger.info("Assignment deleted successfully: {}", assignmentId);
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public void deleteAssignmentsBySubject(Integer subjectId) {
         logger.info("Deleting all assignments for subject ID: {}", subjectId);
         List<SubjectAssignment> assignments = assignmentRepository.findBySubject_SubjectId(subjectId);
@@ -184,7 +218,8 @@ public class AssignmentManagementService {
         return getAssignmentsByTeacher(teacherId).size();
     }
 
-    private void validateAssignmentData(String academicYear, String semester) {
+    // Package-private and static so the benchmarks can call it without a Spring context
+    static void validateAssignmentData(String academicYear, String semester) {
         if (academicYear == null || academicYear.trim().isEmpty()) {
             throw new ValidationException("Academic year is required");
         }
@@ -193,13 +228,12 @@ public class AssignmentManagementService {
             throw new ValidationException("Semester is required");
         }
 
-        if (!academicYear.matches("\\d{4}/\\d{4}")) {
+        if (!ACADEMIC_YEAR.matcher(academicYear).matches()) {
             throw new ValidationException("Academic year must be in format YYYY/YYYY, e.g., '2024/2025'");
         }
 
-        List<String> validSemesters = List.of("Fall", "Spring", "Summer", "Winter");
-        if (!validSemesters.contains(semester)) {
-            throw new ValidationException("Semester must be one of: " + String.join(", ", validSemesters));
+        if (!VALID_SEMESTERS.contains(semester)) {
+            throw new ValidationException("Semester must be one of: " + String.join(", ", VALID_SEMESTERS));
         }
     }
 }
\ No newline at end of file
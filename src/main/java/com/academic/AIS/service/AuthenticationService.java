@@ -1,5 +1,6 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.UserIdentity;
 import com.academic.AIS.dto.request.LoginRequest;
 import com.academic.AIS.dto.response.AuthResponse;
 import com.academic.AIS.exception.DuplicateResourceException;
@@ -8,15 +9,18 @@ import com.academic.AIS.exception.ValidationException;
 import com.academic.AIS.model.User;
 import com.academic.AIS.model.Student;
 import com.academic.AIS.model.Teacher;
-import com.academic.AIS.model.Administrator;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.UserRepository;
 import com.academic.AIS.repository.TeacherRepository;
-import com.academic.AIS.repository.AdministratorRepository;
+import com.academic.AIS.security.JwtClaims;
 import com.academic.AIS.security.JwtTokenProvider;
+import com.academic.AIS.security.TokenRevocationList;
+import com.academic.AIS.security.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -24,28 +28,44 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AuthenticationService {
 
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
-    private final AdministratorRepository administratorRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+
+    private volatile String userNotFoundEncodedPassword;
 
     @Autowired
     public AuthenticationService(UserRepository userRepository,
                                  StudentRepository studentRepository,
                                  TeacherRepository teacherRepository,
-                                 AdministratorRepository administratorRepository,
                                  PasswordEncoder passwordEncoder,
-                                 JwtTokenProvider jwtTokenProvider) {
+                                 JwtTokenProvider jwtTokenProvider,
+                                 VerifiedTokenCache verifiedTokenCache,
+                                 RefreshTokenService refreshTokenService,
+                                 TokenRevocationList tokenRevocationList) {
         this.userRepository = userRepository;
         this.studentRepository = studentRepository;
         this.teacherRepository = teacherRepository;
-        this.administratorRepository = administratorRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
+    /**
+     * Runs without a surrounding transaction: password verification can wait up to the verify timeout and
+     * must not hold a pooled connection meanwhile. The identity read, the re-hash and the refresh token insert
+     * each run in their own short repository/service transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse authenticate(LoginRequest loginRequest) {
         String username = loginRequest.getUsername();
         String password = loginRequest.getPassword();
@@ -55,28 +75,87 @@ public class AuthenticationService {
             throw new ValidationException("Username and password are required");
         }
 
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+        UserIdentity identity = userRepository.findIdentityByUsername(username).orElse(null);
+        if (identity == null) {
+            // Hash anyway so that an unknown username takes as long as a wrong password
+            passwordEncoder.matches(password, userNotFoundEncodedPassword());
+            throw new UnauthorizedException("Invalid credentials");
+        }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordEncoder.matches(password, identity.getPassword())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
-        String displayName = getDisplayName(user);
+        if (passwordEncoder.upgradeEncoding(identity.getPassword())) {
+            // Stored with an outdated encoding or cost; re-hash now that the plain password is at hand
+            userRepository.updatePassword(identity.getUsername(), passwordEncoder.encode(password));
+        }
+
+        // Reference only: the refresh token row needs the foreign key, not the loaded account, so the
+        // uninitialised proxy is fine outside a persistence context
+        User user = userRepository.getReferenceById(identity.getUserId());
+        return buildAuthResponse(identity, refreshTokenService.issue(user, identity.getUsername()));
+    }
+
+    /**
+     * Encoded once with the current encoder, so the comparison costs the same as for a real account; this is
+     * what DaoAuthenticationProvider does for form logins.
+     */
+    private String userNotFoundEncodedPassword() {
+        if (userNotFoundEncodedPassword == null) {
+            userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+        }
+        return userNotFoundEncodedPassword;
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh token of the same family.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public AuthResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new UnauthorizedException("Refresh token is required");
+        }
+        RefreshTokenService.IssuedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+        UserIdentity identity = userRepository.findIdentityByUsername(rotated.getUser().getUsername())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        return buildAuthResponse(identity, rotated.getToken());
+    }
+
+    /**
+     * Revokes the access token until it expires and, when given, the refresh token family it was issued with.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null && !accessToken.isBlank()) {
+            try {
+                JwtClaims claims = jwtTokenProvider.parse(accessToken);
+                tokenRevocationList.revoke(claims);
+            } catch (JwtException | IllegalArgumentException e) {
+                // Already invalid; nothing to revoke
+            }
+            verifiedTokenCache.invalidate(accessToken);
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    private AuthResponse buildAuthResponse(UserIdentity identity, String refreshToken) {
         String accessToken = jwtTokenProvider.generateToken(
-                user.getUsername(),
-                user.getRole(),
-                user.getUserId()
+                identity.getUsername(),
+                identity.getRole(),
+                identity.getUserId(),
+                identity.getProfileId(),
+                identity.getDisplayName()
         );
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUsername());
 
         return new AuthResponse(
                 accessToken,
                 refreshToken,
-                user.getUsername(),
-                user.getRole(),
-                user.getUserId(),
-                displayName
+                identity.getUsername(),
+                identity.getRole(),
+                identity.getUserId(),
+                identity.getDisplayName()
         );
     }
 
@@ -114,28 +193,6 @@ public class AuthenticationService {
         return teacherRepository.save(teacher);
     }
 
-    private String getDisplayName(User user) {
-        switch (user.getRole()) {
-            case "STUDENT":
-                return studentRepository.findByUsername(user.getUsername())
-                        .map(Student::getFullName)
-                        .orElse(user.getUsername());
-
-            case "TEACHER":
-                return teacherRepository.findByUsername(user.getUsername())
-                        .map(Teacher::getFullName)
-                        .orElse(user.getUsername());
-
-            case "ADMINISTRATOR":
-                return administratorRepository.findByUsername(user.getUsername())
-                        .map(Administrator::getFullName)
-                        .orElse(user.getUsername());
-
-            default:
-                return user.getUsername();
-        }
-    }
-
     private void validateInput(String firstName, String lastName, String email) {
         if (firstName == null || firstName.trim().isEmpty()) {
             throw new ValidationException("First name is required");
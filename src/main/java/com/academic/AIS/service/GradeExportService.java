@@ -0,0 +1,167 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.dto.projection.GradeExportRow;
+import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.repository.GradeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the full grade register as CSV or newline-delimited JSON.
+ * Rows are pulled from a database cursor and written one at a time, so heap use does not grow with the
+ * number of grades exported.
+ */
+@Service
+public class GradeExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradeExportService.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_COLUMNS = {
+            "grade_id", "grade_date", "grade_value", "student_id", "student_first_name", "student_last_name",
+            "group_name", "subject_code", "subject_name", "teacher_first_name", "teacher_last_name",
+            "academic_year", "semester", "comments"
+    };
+
+    private final GradeRepository gradeRepository;
+    private final ObjectWriter ndjsonWriter;
+
+    @Autowired
+    public GradeExportService(GradeRepository gradeRepository, JsonMapper jsonMapper) {
+        this.gradeRepository = gradeRepository;
+        // One object per line; the response stream belongs to the caller and must stay open
+        this.ndjsonWriter = jsonMapper.writerFor(GradeExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Streams matching grades to the given output. The output is flushed but not closed.
+     *
+     * @return number of grades written
+     */
+    @Transactional(readOnly = true)
+    public long exportGrades(ExportFormat format, String academicYear, String semester,
+                             OutputStream out) throws IOException {
+        logger.info("Exporting grades as {} (academicYear={}, semester={})", format, academicYear, semester);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long count = 0;
+
+        try (Stream<GradeExportRow> rows = gradeRepository.streamForExport(academicYear, semester)) {
+            Iterator<GradeExportRow> iterator = rows.iterator();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, CSV_COLUMNS);
+                while (iterator.hasNext()) {
+                    writeCsvLine(writer, toColumns(iterator.next()));
+                    count++;
+                }
+            } else {
+                try (SequenceWriter json = ndjsonWriter.writeValues(writer)) {
+                    while (iterator.hasNext()) {
+                        json.write(iterator.next());
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    // The separator only goes between values; end the last line as well
+                    writer.write('\n');
+                }
+            }
+        }
+
+        writer.flush();
+        logger.info("Exported {} grades as {}", count, format);
+        return count;
+    }
+
+    private String[] toColumns(GradeExportRow row) {
+        return new String[] {
+                String.valueOf(row.getGradeId()),
+                String.valueOf(row.getGradeDate()),
+                String.valueOf(row.getGradeValue()),
+                String.valueOf(row.getStudentId()),
+                row.getStudentFirstName(),
+                row.getStudentLastName(),
+                row.getGroupName(),
+                row.getSubjectCode(),
+                row.getSubjectName(),
+                row.getTeacherFirstName(),
+                row.getTeacherLastName(),
+                row.getAcademicYear(),
+                row.getSemester(),
+                row.getComments()
+        };
+    }
+
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // ==================== FORMAT ====================
+
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static ExportFormat parse(String value) {
+            if (value != null) {
+                for (ExportFormat format : values()) {
+                    if (format.extension.equalsIgnoreCase(value.trim())) {
+                        return format;
+                    }
+                }
+            }
+            throw new ValidationException("Format must be 'csv' or 'ndjson'");
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+    }
+}
@@ -1,5 +1,10 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.pagination.CursorPage;
+import com.academic.AIS.dto.pagination.KeysetCursor;
+import com.academic.AIS.dto.request.BatchGradeEntry;
+import com.academic.AIS.dto.response.BatchGradeResult;
+import com.academic.AIS.dto.response.GradeResponse;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.UnauthorizedException;
@@ -8,13 +13,21 @@ import com.academic.AIS.model.Grade;
 import com.academic.AIS.model.Student;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.repository.GradeRepository;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,14 +36,17 @@ public class GradeService {
     private final GradeRepository gradeRepository;
     private final StudentRepository studentRepository;
     private final SubjectAssignmentRepository assignmentRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
     public GradeService(GradeRepository gradeRepository,
                         StudentRepository studentRepository,
-                        SubjectAssignmentRepository assignmentRepository) {
+                        SubjectAssignmentRepository assignmentRepository,
+                        GradeStatisticsRepository gradeStatisticsRepository) {
         this.gradeRepository = gradeRepository;
         this.studentRepository = studentRepository;
         this.assignmentRepository = assignmentRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
     public Grade enterGrade(Integer teacherId, Integer studentId, Integer assignmentId,
@@ -60,7 +76,82 @@ public class GradeService {
         }
 
         Grade grade = new Grade(student, assignment, gradeValue, comments);
-        return gradeRepository.save(grade);
+        grade = gradeRepository.save(grade);
+
+        applyStatisticsDelta(assignment, studentId, 1, gradeValue, grade.isPassing() ? 1 : 0);
+        return grade;
+    }
+
+    /**
+     * Enters grades for many students of one assignment. Group membership and existing grades are checked
+     * with one query each for the whole batch, and the new grades are inserted with JDBC batching.
+     * Invalid rows are rejected individually; the rest are still created.
+     *
+     * @return one result per entry, in request order
+     */
+    public List<BatchGradeResult> enterGrades(Integer teacherId, Integer assignmentId, List<BatchGradeEntry> entries) {
+        SubjectAssignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assignment", "id", assignmentId));
+
+        if (!assignment.getTeacher().getTeacherId().equals(teacherId)) {
+            throw new UnauthorizedException("You are not assigned to teach this subject");
+        }
+
+        Set<Integer> requestedIds = entries.stream()
+                .map(BatchGradeEntry::getStudentId)
+                .collect(Collectors.toSet());
+        Set<Integer> groupMembers = new HashSet<>(
+                studentRepository.findIdsInGroup(assignment.getGroup().getGroupId(), requestedIds));
+        Set<Integer> alreadyGraded = new HashSet<>(
+                gradeRepository.findGradedStudentIds(assignmentId, requestedIds));
+
+        List<BatchGradeResult> results = new ArrayList<>(entries.size());
+        List<Grade> grades = new ArrayList<>();
+        List<Integer> gradeIndexes = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            BatchGradeEntry entry = entries.get(i);
+            Integer studentId = entry.getStudentId();
+            String rejection = null;
+
+            if (!seen.add(studentId)) {
+                rejection = "Student appears more than once in this batch";
+            } else if (!groupMembers.contains(studentId)) {
+                rejection = "Student is not in the group for this subject";
+            } else if (alreadyGraded.contains(studentId)) {
+                rejection = "Grade already exists for this student and assignment. Use update instead.";
+            } else if (entry.getGradeValue() < 0 || entry.getGradeValue() > 10) {
+                rejection = "Grade must be between 0 and 10";
+            }
+
+            if (rejection != null) {
+                results.add(BatchGradeResult.rejected(i, studentId, rejection));
+                continue;
+            }
+
+            grades.add(new Grade(studentRepository.getReferenceById(studentId), assignment,
+                    entry.getGradeValue(), entry.getComments()));
+            gradeIndexes.add(i);
+            results.add(null);
+        }
+
+        if (!grades.isEmpty()) {
+            gradeRepository.saveAll(grades);
+
+            Set<Integer> gradedIds = new HashSet<>();
+            for (int i = 0; i < grades.size(); i++) {
+                Grade grade = grades.get(i);
+                int index = gradeIndexes.get(i);
+                results.set(index, BatchGradeResult.created(index, entries.get(index).getStudentId(),
+                        grade.getGradeId()));
+                gradedIds.add(entries.get(index).getStudentId());
+            }
+
+            gradeStatisticsRepository.addAssignmentGrades(assignmentId, gradedIds);
+        }
+
+        return results;
     }
 
     public Grade updateGrade(Integer gradeId, Integer teacherId,
@@ -76,11 +167,20 @@ public class GradeService {
             throw new ValidationException("Grade must be between 0 and 10");
         }
 
+        int oldGradeValue = grade.getGradeValue();
+        boolean wasPassing = grade.isPassing();
+
         grade.setGradeValue(newGradeValue);
         grade.setComments(newComments);
         grade.setGradeDate(LocalDate.now());
 
-        return gradeRepository.save(grade);
+        grade = gradeRepository.save(grade);
+
+        if (oldGradeValue != newGradeValue) {
+            applyStatisticsDelta(grade.getAssignment(), grade.getStudent().getStudentId(), 0,
+                    newGradeValue - oldGradeValue, (grade.isPassing() ? 1 : 0) - (wasPassing ? 1 : 0));
+        }
+        return grade;
     }
 
     public Grade deleteGrade(Integer gradeId, Integer teacherId) {
@@ -94,6 +194,8 @@ public class GradeService {
         Grade deletedGrade = grade;
         gradeRepository.deleteById(gradeId);
 
+        applyStatisticsDelta(grade.getAssignment(), grade.getStudent().getStudentId(), -1,
+                -grade.getGradeValue(), grade.isPassing() ? -1 : 0);
         return deletedGrade;
     }
 
@@ -101,6 +203,32 @@ public class GradeService {
         return gradeRepository.findByTeacher_TeacherId(teacherId);
     }
 
+    public CursorPage<GradeResponse> getTeacherGradePage(Integer teacherId, String after,
+                                                         Integer limit, String sort) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        boolean descending = CursorPage.isDescending(sort);
+        Integer afterId = after == null || after.isBlank()
+                ? null : KeysetCursor.toInteger(KeysetCursor.decode(after, 1)[0]);
+
+        Pageable firstRows = PageRequest.ofSize(pageSize + 1);
+        List<GradeResponse> rows;
+        if (afterId == null) {
+            rows = descending
+                    ? gradeRepository.findResponsesByTeacherDescending(teacherId, firstRows)
+                    : gradeRepository.findResponsesByTeacher(teacherId, firstRows);
+        } else {
+            rows = descending
+                    ? gradeRepository.findResponsesByTeacherBefore(teacherId, afterId, firstRows)
+                    : gradeRepository.findResponsesByTeacherAfter(teacherId, afterId, firstRows);
+        }
+
+        return CursorPage.of(rows, pageSize, grade -> KeysetCursor.encode(grade.getGradeId()));
+    }
+
+    public Optional<Grade> getTeacherGrade(Integer gradeId, Integer teacherId) {
+        return gradeRepository.findByGradeIdAndTeacher(gradeId, teacherId);
+    }
+
     public List<Grade> getGradesForTeacherSubject(Integer teacherId, Integer subjectId) {
         return gradeRepository.findByTeacherAndSubject(teacherId, subjectId);
     }
@@ -108,4 +236,14 @@ public class GradeService {
     public List<Grade> getGradesByAssignment(Integer assignmentId) {
         return gradeRepository.findByAssignment_AssignmentIdOrderByGradeDateDesc(assignmentId);
     }
+
+    private void applyStatisticsDelta(SubjectAssignment assignment, Integer studentId,
+                                      long countDelta, long sumDelta, long passingDelta) {
+        gradeStatisticsRepository.applyDelta(
+                assignment.getTeacher().getTeacherId(),
+                studentId,
+                assignment.getGroup().getGroupId(),
+                assignment.getSubject().getSubjectId(),
+                countDelta, sumDelta, passingDelta);
+    }
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.config.CacheConfig;
+import com.academic.AIS.dto.projection.GroupSummary;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.repository.GradeStatisticsRepository;
+import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,12 +28,19 @@ public class GroupManagementService {
     private static final Logger logger = LoggerFactory.getLogger(GroupManagementService.class);
 
     private final StudyGroupRepository studyGroupRepository;
+    private final StudentRepository studentRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
-    public GroupManagementService(StudyGroupRepository studyGroupRepository) {
+    public GroupManagementService(StudyGroupRepository studyGroupRepository,
+                                  StudentRepository studentRepository,
+                                  GradeStatisticsRepository gradeStatisticsRepository) {
         this.studyGroupRepository = studyGroupRepository;
+        this.studentRepository = studentRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public StudyGroup createGroup(String groupName, Integer year) {
         logger.info("Creating study group: {} for year {}", groupName, year);
 
@@ -43,6 +58,10 @@ public class GroupManagementService {
         return group;
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.GROUPS, allEntries = true),
+            @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
+    })
     public StudyGroup updateGroup(Integer groupId, String groupName, Integer year) {
         logger.info("Updating study group ID: {} with name: {}, year: {}", groupId, groupName, year);
 
@@ -69,6 +88,10 @@ public class GroupManagementService {
         return group;
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.GROUPS, allEntries = true),
+            @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
+    })
     public void deleteGroup(Integer groupId) {
         logger.info("Attempting to delete study group ID: {}", groupId);
 
@@ -77,20 +100,24 @@ public class GroupManagementService {
             throw new ResourceNotFoundException("StudyGroup", "id", groupId);
         }
 
-        StudyGroup group = studyGroupRepository.findById(groupId).get();
-        int studentCount = group.getStudents() != null ? group.getStudents().size() : 0;
+        long studentCount = studentRepository.countByGroup_GroupId(groupId);
 
         if (studentCount > 0) {
             logger.warn("Deleting group {} which has {} students", groupId, studentCount);
         }
 
+        gradeStatisticsRepository.subtractGradesOfGroup(groupId);
+        gradeStatisticsRepository.deleteStudentScopesOfGroup(groupId);
+        gradeStatisticsRepository.deleteScope(GradeStatistics.SCOPE_GROUP, groupId);
+
         studyGroupRepository.deleteById(groupId);
         logger.info("Study group deleted successfully: {}", groupId);
     }
 
-    public List<StudyGroup> getAllGroups() {
+    @Cacheable(CacheConfig.GROUPS)
+    public List<GroupSummary> getAllGroups() {
         logger.debug("Retrieving all study groups");
-        List<StudyGroup> groups = studyGroupRepository.findAll();
+        List<GroupSummary> groups = studyGroupRepository.findAllSummaries();
         logger.debug("Found {} study groups", groups.size());
         return groups;
     }
@@ -113,9 +140,11 @@ public class GroupManagementService {
                 });
     }
 
-    public int getStudentCount(Integer groupId) {
-        StudyGroup group = getGroupById(groupId);
-        int count = group.getStudents() != null ? group.getStudents().size() : 0;
+    public long getStudentCount(Integer groupId) {
+        if (!studyGroupRepository.existsById(groupId)) {
+            throw new ResourceNotFoundException("StudyGroup", "id", groupId);
+        }
+        long count = studentRepository.countByGroup_GroupId(groupId);
         logger.debug("Group {} has {} students", groupId, count);
         return count;
     }
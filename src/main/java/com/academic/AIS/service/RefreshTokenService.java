@@ -0,0 +1,141 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.exception.UnauthorizedException;
+import com.academic.AIS.model.RefreshToken;
+import com.academic.AIS.model.User;
+import com.academic.AIS.repository.RefreshTokenRepository;
+import com.academic.AIS.security.JwtClaims;
+import com.academic.AIS.security.JwtTokenProvider;
+import com.academic.AIS.security.TokenRevocationList;
+import com.academic.AIS.security.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Issues, rotates and revokes refresh tokens. Each token is backed by a refresh_token row looked up by its
+ * jti, so a refresh costs one primary-key read and no password verification.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtTokenProvider jwtTokenProvider,
+                               TokenRevocationList tokenRevocationList,
+                               VerifiedTokenCache verifiedTokenCache) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Starts a new token family for a fresh login. The user may be an uninitialised reference; the username
+     * is passed separately so issuing the token does not load it.
+     */
+    public String issue(User user, String username) {
+        return issueInFamily(user, username, UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /**
+     * Exchanges a refresh token for the next one in its family. A token can be used once; presenting it again
+     * means it was copied, so the whole family and the user's current access tokens are revoked.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public IssuedRefreshToken rotate(String refreshToken) {
+        JwtClaims claims = parseRefreshToken(refreshToken);
+
+        RefreshToken stored = refreshTokenRepository.findByJtiWithUser(claims.getTokenId())
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        Instant now = Instant.now();
+        if (stored.isExpired(now)) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+        if (stored.isRevoked() || refreshTokenRepository.revokeIfActive(stored.getJti(), now) == 0) {
+            revokeAfterReuse(stored, now);
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+
+        User user = stored.getUser();
+        return new IssuedRefreshToken(issueInFamily(user, user.getUsername(), stored.getFamilyId(), now), user);
+    }
+
+    /**
+     * Revokes the family of the given refresh token (logout). Unknown or invalid tokens are ignored.
+     */
+    public void revoke(String refreshToken) {
+        JwtClaims claims;
+        try {
+            claims = parseRefreshToken(refreshToken);
+        } catch (UnauthorizedException e) {
+            return;
+        }
+        refreshTokenRepository.findById(claims.getTokenId())
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId(), Instant.now()));
+    }
+
+    @Scheduled(cron = "${ais.security.refresh-token.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        logger.info("Purged {} expired refresh tokens", deleted);
+    }
+
+    private void revokeAfterReuse(RefreshToken stored, Instant now) {
+        String username = stored.getUser().getUsername();
+        logger.warn("Refresh token reuse detected for user {}; revoking token family {}",
+                username, stored.getFamilyId());
+        refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+        tokenRevocationList.revokeUser(username);
+        verifiedTokenCache.invalidateUser(username);
+    }
+
+    private JwtClaims parseRefreshToken(String refreshToken) {
+        JwtClaims claims;
+        try {
+            claims = jwtTokenProvider.parse(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        if (claims.isAccessToken() || claims.getTokenId() == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        return claims;
+    }
+
+    private String issueInFamily(User user, String username, String familyId, Instant now) {
+        String jti = UUID.randomUUID().toString();
+        Instant expiresAt = now.plusMillis(jwtTokenProvider.getRefreshExpiration());
+        refreshTokenRepository.save(new RefreshToken(jti, familyId, user, now, expiresAt));
+        return jwtTokenProvider.generateRefreshToken(username, jti);
+    }
+
+    public static class IssuedRefreshToken {
+        private final String token;
+        private final User user;
+
+        public IssuedRefreshToken(String token, User user) {
+            this.token = token;
+            this.user = user;
+        }
+
+        public String getToken() { return token; }
+        public User getUser() { return user; }
+    }
+}
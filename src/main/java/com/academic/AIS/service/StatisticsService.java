@@ -1,5 +1,8 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.GradeValueCount;
+import com.academic.AIS.model.GradeStatistics;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.TeacherRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
@@ -12,7 +15,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -28,6 +33,7 @@ public class StatisticsService {
     private final SubjectRepository subjectRepository;
     private final GradeRepository gradeRepository;
     private final SubjectAssignmentRepository assignmentRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
     public StatisticsService(StudentRepository studentRepository,
@@ -35,13 +41,15 @@ public class StatisticsService {
                              StudyGroupRepository studyGroupRepository,
                              SubjectRepository subjectRepository,
                              GradeRepository gradeRepository,
-                             SubjectAssignmentRepository assignmentRepository) {
+                             SubjectAssignmentRepository assignmentRepository,
+                             GradeStatisticsRepository gradeStatisticsRepository) {
         this.studentRepository = studentRepository;
         this.teacherRepository = teacherRepository;
         this.studyGroupRepository = studyGroupRepository;
         this.subjectRepository = subjectRepository;
         this.gradeRepository = gradeRepository;
         this.assignmentRepository = assignmentRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
 
@@ -66,22 +74,13 @@ public class StatisticsService {
     public TeacherStatistics getTeacherStatistics(Integer teacherId) {
         logger.debug("Calculating statistics for teacher ID: {}", teacherId);
 
-        long assignmentCount = assignmentRepository.findByTeacher_TeacherId(teacherId).size();
-        long gradeCount = gradeRepository.countByTeacher(teacherId);
+        long assignmentCount = assignmentRepository.countByTeacher_TeacherId(teacherId);
+        long studentCount = gradeRepository.countDistinctStudentsByTeacher(teacherId);
 
-        // Calculate unique students taught
-        long studentCount = gradeRepository.findByTeacher_TeacherId(teacherId).stream()
-                .map(grade -> grade.getStudent().getStudentId())
-                .distinct()
-                .count();
+        GradeStatistics grades = findGradeStatistics(GradeStatistics.SCOPE_TEACHER, teacherId);
 
-        // Calculate average grade given by teacher
-        Double averageGrade = gradeRepository.findByTeacher_TeacherId(teacherId).stream()
-                .mapToDouble(grade -> grade.getGradeValue())
-                .average()
-                .orElse(0.0);
-
-        return new TeacherStatistics(assignmentCount, studentCount, gradeCount, averageGrade);
+        return new TeacherStatistics(assignmentCount, studentCount,
+                grades.getGradeCount(), grades.getAverageGrade());
     }
 
 
@@ -89,39 +88,39 @@ public class StatisticsService {
     public StudentStatistics getStudentStatistics(Integer studentId) {
         logger.debug("Calculating statistics for student ID: {}", studentId);
 
-        long totalGrades = gradeRepository.countByStudent_StudentId(studentId);
-
-        Double averageGrade = gradeRepository.findByStudentWithDetails(studentId).stream()
-                .mapToDouble(grade -> grade.getGradeValue())
-                .average()
-                .orElse(0.0);
-
-        long passingGrades = gradeRepository.findByStudentWithDetails(studentId).stream()
-                .filter(grade -> grade.getGradeValue() >= 5)
-                .count();
-
-        long failingGrades = totalGrades - passingGrades;
+        GradeStatistics grades = findGradeStatistics(GradeStatistics.SCOPE_STUDENT, studentId);
 
-        return new StudentStatistics(totalGrades, averageGrade, passingGrades, failingGrades);
+        return new StudentStatistics(grades.getGradeCount(), grades.getAverageGrade(),
+                grades.getPassingCount(), grades.getFailingCount());
     }
 
 
 
+    /**
+     * The average covers the grades given in the group's assignments. Until grade_statistics existed it
+     * covered the grades of the group's current students; the two differ for students who changed groups,
+     * whose earlier grades now stay with the group they were given in.
+     */
     public GroupStatistics getGroupStatistics(Integer groupId) {
         logger.debug("Calculating statistics for group ID: {}", groupId);
 
         long studentCount = studentRepository.countByGroup_GroupId(groupId);
-        long assignmentCount = assignmentRepository.findByGroup_GroupId(groupId).size();
+        long assignmentCount = assignmentRepository.countByGroup_GroupId(groupId);
 
-        // Calculate average grade for the group
-        Double averageGrade = gradeRepository.findAll().stream()
-                .filter(grade -> grade.getStudent().getGroup() != null &&
-                        grade.getStudent().getGroup().getGroupId().equals(groupId))
-                .mapToDouble(grade -> grade.getGradeValue())
-                .average()
-                .orElse(0.0);
+        GradeStatistics grades = findGradeStatistics(GradeStatistics.SCOPE_GROUP, groupId);
 
-        return new GroupStatistics(studentCount, assignmentCount, averageGrade);
+        return new GroupStatistics(studentCount, assignmentCount, grades.getAverageGrade());
+    }
+
+    /**
+     * A student belongs to exactly one group, so this is also the number of distinct students taught across
+     * assignments to these groups.
+     */
+    public long countStudentsInGroups(Collection<Integer> groupIds) {
+        if (groupIds.isEmpty()) {
+            return 0;
+        }
+        return studentRepository.countByGroupIds(groupIds);
     }
 
 
@@ -130,43 +129,53 @@ public class StatisticsService {
     public SubjectStatistics getSubjectStatistics(Integer subjectId) {
         logger.debug("Calculating statistics for subject ID: {}", subjectId);
 
-        long assignmentCount = assignmentRepository.findBySubject_SubjectId(subjectId).size();
+        long assignmentCount = assignmentRepository.countBySubject_SubjectId(subjectId);
+        long studentCount = studentRepository.countBySubject(subjectId);
+
+        GradeStatistics grades = findGradeStatistics(GradeStatistics.SCOPE_SUBJECT, subjectId);
+
+        return new SubjectStatistics(assignmentCount, studentCount,
+                grades.getGradeCount(), grades.getAverageGrade());
+    }
 
-        long studentCount = assignmentRepository.findBySubject_SubjectId(subjectId).stream()
-                .flatMap(assignment -> assignment.getGroup().getStudents().stream())
-                .distinct()
-                .count();
 
-        long gradeCount = gradeRepository.findAll().stream()
-                .filter(grade -> grade.getAssignment().getSubject().getSubjectId().equals(subjectId))
-                .count();
 
-        Double averageGrade = gradeRepository.findAll().stream()
-                .filter(grade -> grade.getAssignment().getSubject().getSubjectId().equals(subjectId))
-                .mapToDouble(grade -> grade.getGradeValue())
-                .average()
-                .orElse(0.0);
 
-        return new SubjectStatistics(assignmentCount, studentCount, gradeCount, averageGrade);
+    public Map<Integer, Long> getGradeDistribution() {
+        return getGradeHistogram(null, null, null, null, null).toMap();
     }
 
 
 
+    public GradeHistogram getGradeHistogram(String academicYear, String semester,
+                                            Integer subjectId, Integer groupId, Integer teacherId) {
+        logger.debug("Calculating grade distribution: Year={}, Semester={}, Subject={}, Group={}, Teacher={}",
+                academicYear, semester, subjectId, groupId, teacherId);
 
-    public Map<Integer, Long> getGradeDistribution() {
-        logger.debug("Calculating grade distribution");
+        return toHistogram(gradeRepository.countByGradeValue(
+                academicYear, semester, subjectId, groupId, teacherId));
+    }
+
+    static GradeHistogram toHistogram(List<GradeValueCount> buckets) {
+        long[] counts = new long[GradeHistogram.BUCKETS];
 
-        Map<Integer, Long> distribution = new HashMap<>();
-        for (int i = 0; i <= 10; i++) {
-            distribution.put(i, 0L);
+        for (GradeValueCount bucket : buckets) {
+            int value = bucket.getGradeValue();
+            if (value < 0 || value >= GradeHistogram.BUCKETS) {
+                logger.warn("Ignoring {} grades with out-of-range value {}", bucket.getCount(), value);
+                continue;
+            }
+            counts[value] = bucket.getCount();
         }
 
-        gradeRepository.findAll().forEach(grade -> {
-            Integer value = grade.getGradeValue();
-            distribution.put(value, distribution.get(value) + 1);
-        });
+        return new GradeHistogram(counts);
+    }
+
 
-        return distribution;
+
+    private GradeStatistics findGradeStatistics(String scope, Integer scopeId) {
+        return gradeStatisticsRepository.findByScopeAndScopeId(scope, scopeId)
+                .orElseGet(() -> new GradeStatistics(scope, scopeId, 0, 0, 0));
     }
 
     // ==================== Inner Classes for Statistics ====================
@@ -340,4 +349,42 @@ public class StatisticsService {
             return averageGrade;
         }
     }
+
+
+
+    public static class GradeHistogram {
+        public static final int BUCKETS = 11;
+
+        private final long[] counts;
+        private final long total;
+
+        public GradeHistogram(long[] counts) {
+            this.counts = counts;
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            this.total = sum;
+        }
+
+        public long getCount(int gradeValue) {
+            return counts[gradeValue];
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public double getPercentage(int gradeValue) {
+            return total == 0 ? 0.0 : counts[gradeValue] * 100.0 / total;
+        }
+
+        public Map<Integer, Long> toMap() {
+            Map<Integer, Long> distribution = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS; i++) {
+                distribution.put(i, counts[i]);
+            }
+            return distribution;
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.config.CacheConfig;
+import com.academic.AIS.config.ExecutorConfig;
+import com.academic.AIS.dto.response.StudentImportError;
+import com.academic.AIS.dto.response.StudentImportResponse;
+import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.Student;
+import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.model.User;
+import com.academic.AIS.repository.StudentRepository;
+import com.academic.AIS.repository.StudyGroupRepository;
+import com.academic.AIS.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk student enrolment from CSV.
+ * Duplicate usernames and emails are detected with one IN query each for the whole file, passwords are
+ * hashed in parallel on a bounded pool before any transaction is opened, and the accounts are then
+ * inserted with JDBC batching. Invalid rows are reported and skipped; the rest are imported together.
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+
+    public static final int MAX_ROWS = 10_000;
+
+    private static final String COLUMN_FIRST_NAME = "first_name";
+    private static final String COLUMN_LAST_NAME = "last_name";
+    private static final String COLUMN_EMAIL = "email";
+    private static final String COLUMN_GROUP = "group_name";
+
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final StudyGroupRepository studyGroupRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Executor passwordHashExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public StudentImportService(UserRepository userRepository,
+                                StudentRepository studentRepository,
+                                StudyGroupRepository studyGroupRepository,
+                                PasswordEncoder passwordEncoder,
+                                @Qualifier(ExecutorConfig.PASSWORD_HASH_EXECUTOR) Executor passwordHashExecutor,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.studentRepository = studentRepository;
+        this.studyGroupRepository = studyGroupRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports students from a UTF-8 CSV with a header row containing first_name, last_name, email and
+     * optionally group_name. Usernames and initial passwords follow the same rules as single registration.
+     */
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
+    public StudentImportResponse importStudents(InputStream csv) throws IOException {
+        List<ImportRow> rows = readRows(csv);
+        List<StudentImportError> errors = new ArrayList<>();
+
+        List<ImportRow> candidates = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (ImportRow row : rows) {
+            String problem = validate(row);
+            if (problem == null && !seenUsernames.add(row.username)) {
+                problem = "Username '" + row.username + "' appears more than once in this file";
+            }
+            if (problem == null && !seenEmails.add(row.email)) {
+                problem = "Email appears more than once in this file";
+            }
+            if (problem != null) {
+                errors.add(new StudentImportError(row.line, row.email, problem));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        Set<String> existingUsernames = seenUsernames.isEmpty() ? Set.of()
+                : new HashSet<>(userRepository.findExistingUsernames(seenUsernames));
+        Set<String> existingEmails = seenEmails.isEmpty() ? Set.of()
+                : new HashSet<>(studentRepository.findExistingEmails(seenEmails));
+        Set<String> groupNames = candidates.stream()
+                .map(row -> row.groupName)
+                .filter(name -> name != null)
+                .collect(Collectors.toSet());
+        Map<String, StudyGroup> groups = groupNames.isEmpty() ? Map.of()
+                : studyGroupRepository.findByGroupNameIn(groupNames).stream()
+                        .collect(Collectors.toMap(StudyGroup::getGroupName, Function.identity()));
+
+        List<ImportRow> accepted = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            String problem = null;
+            if (existingUsernames.contains(row.username)) {
+                problem = "User with username '" + row.username + "' already exists";
+            } else if (existingEmails.contains(row.email)) {
+                problem = "Email already exists";
+            } else if (row.groupName != null && !groups.containsKey(row.groupName)) {
+                problem = "Group '" + row.groupName + "' not found";
+            }
+            if (problem != null) {
+                errors.add(new StudentImportError(row.line, row.email, problem));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        List<String> passwordHashes = hashPasswords(accepted);
+
+        if (!accepted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> insert(accepted, passwordHashes, groups));
+        }
+
+        errors.sort(Comparator.comparingInt(StudentImportError::getLine));
+        logger.info("Imported {} of {} students from CSV ({} rejected)", accepted.size(), rows.size(), errors.size());
+        return new StudentImportResponse(rows.size(), accepted.size(), errors);
+    }
+
+    private List<String> hashPasswords(List<ImportRow> rows) {
+        List<CompletableFuture<String>> hashes = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.lastName),
+                        passwordHashExecutor))
+                .collect(Collectors.toList());
+        return hashes.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private void insert(List<ImportRow> rows, List<String> passwordHashes, Map<String, StudyGroup> groups) {
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            users.add(new User(rows.get(i).username, passwordHashes.get(i), "STUDENT"));
+        }
+        userRepository.saveAll(users);
+
+        List<Student> students = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            Student student = new Student(users.get(i), row.firstName, row.lastName, row.email);
+            if (row.groupName != null) {
+                student.setGroup(groups.get(row.groupName));
+            }
+            students.add(student);
+        }
+        studentRepository.saveAll(students);
+    }
+
+    private String validate(ImportRow row) {
+        if (row.firstName == null) {
+            return "First name is required";
+        }
+        if (row.lastName == null) {
+            return "Last name is required";
+        }
+        if (row.email == null) {
+            return "Email is required";
+        }
+        if (row.email.indexOf('@') < 1) {
+            return "Invalid email format";
+        }
+        return null;
+    }
+
+    // ==================== CSV PARSING ====================
+
+    private List<ImportRow> readRows(InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new ValidationException("CSV file is empty");
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of(COLUMN_FIRST_NAME, COLUMN_LAST_NAME, COLUMN_EMAIL)) {
+            if (!columns.containsKey(required)) {
+                throw new ValidationException("CSV header must contain column '" + required + "'");
+            }
+        }
+
+        List<ImportRow> rows = new ArrayList<>();
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() == MAX_ROWS) {
+                throw new ValidationException("CSV file must not contain more than " + MAX_ROWS + " students");
+            }
+            List<String> values = parseLine(line);
+            rows.add(new ImportRow(lineNumber,
+                    value(values, columns.get(COLUMN_FIRST_NAME)),
+                    value(values, columns.get(COLUMN_LAST_NAME)),
+                    value(values, columns.get(COLUMN_EMAIL)),
+                    value(values, columns.get(COLUMN_GROUP))));
+        }
+        return rows;
+    }
+
+    private static String value(List<String> values, Integer index) {
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields with "" escapes. Fields cannot span lines.
+     */
+    static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static class ImportRow {
+        private final int line;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final String groupName;
+        private final String username;
+
+        ImportRow(int line, String firstName, String lastName, String email, String groupName) {
+            this.line = line;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.groupName = groupName;
+            this.username = firstName != null ? firstName.toLowerCase() : null;
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.config.CacheConfig;
+import com.academic.AIS.dto.pagination.CursorPage;
+import com.academic.AIS.dto.pagination.KeysetCursor;
 import com.academic.AIS.dto.request.CreateStudentRequest;
 import com.academic.AIS.dto.response.StudentResponse;
 import com.academic.AIS.dto.mapper.StudentMapper;
 import com.academic.AIS.exception.ResourceNotFoundException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.Student;
 import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import com.academic.AIS.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -24,20 +32,24 @@ public class StudentManagementService {
     private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
     private final StudentMapper studentMapper;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
     public StudentManagementService(StudentRepository studentRepository,
                                     StudyGroupRepository studyGroupRepository,
                                     UserRepository userRepository,
                                     AuthenticationService authenticationService,
-                                    StudentMapper studentMapper) {
+                                    StudentMapper studentMapper,
+                                    GradeStatisticsRepository gradeStatisticsRepository) {
         this.studentRepository = studentRepository;
         this.studyGroupRepository = studyGroupRepository;
         this.userRepository = userRepository;
         this.authenticationService = authenticationService;
         this.studentMapper = studentMapper;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public StudentResponse createStudent(CreateStudentRequest request) {
         Student student = authenticationService.registerStudent(
                 request.getFirstName(),
@@ -52,6 +64,7 @@ public class StudentManagementService {
         return studentMapper.toResponse(student);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public StudentResponse updateStudent(Integer studentId, CreateStudentRequest request) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
@@ -71,11 +84,15 @@ public class StudentManagementService {
         return studentMapper.toResponse(student);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public void deleteStudent(Integer studentId) {
         if (!studentRepository.existsById(studentId)) {
             throw new ResourceNotFoundException("Student", "id", studentId);
         }
 
+        gradeStatisticsRepository.subtractGradesOfStudent(studentId);
+        gradeStatisticsRepository.deleteScope(GradeStatistics.SCOPE_STUDENT, studentId);
+
         Integer userId = studentId;
         studentRepository.deleteById(studentId);
         userRepository.deleteById(userId);
@@ -87,12 +104,38 @@ public class StudentManagementService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<StudentResponse> getStudentPage(String after, Integer limit, String sort) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        boolean descending = CursorPage.isDescending(sort);
+
+        Pageable firstRows = PageRequest.ofSize(pageSize + 1);
+        List<Student> students;
+        if (after == null || after.isBlank()) {
+            students = descending
+                    ? studentRepository.findFirstPageDescending(firstRows)
+                    : studentRepository.findFirstPage(firstRows);
+        } else {
+            String[] keys = KeysetCursor.decode(after, 3);
+            Integer afterId = KeysetCursor.toInteger(keys[2]);
+            students = descending
+                    ? studentRepository.findPageBefore(keys[0], keys[1], afterId, firstRows)
+                    : studentRepository.findPageAfter(keys[0], keys[1], afterId, firstRows);
+        }
+        List<StudentResponse> rows = students.stream()
+                .map(studentMapper::toResponse)
+                .collect(Collectors.toList());
+
+        return CursorPage.of(rows, pageSize, student ->
+                KeysetCursor.encode(student.getLastName(), student.getFirstName(), student.getStudentId()));
+    }
+
     public StudentResponse getStudentById(Integer studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
         return studentMapper.toResponse(student);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public StudentResponse assignStudentToGroup(Integer studentId, Integer groupId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
@@ -105,6 +148,7 @@ public class StudentManagementService {
         return studentMapper.toResponse(student);
     }
 
+    @CacheEvict(value = CacheConfig.GROUPS, allEntries = true)
     public StudentResponse removeStudentFromGroup(Integer studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", studentId));
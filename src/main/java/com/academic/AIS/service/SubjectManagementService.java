@@ -1,11 +1,17 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.config.CacheConfig;
+import com.academic.AIS.dto.projection.SubjectSummary;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.Subject;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.SubjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -15,12 +21,16 @@ import java.util.List;
 public class SubjectManagementService {
 
     private final SubjectRepository subjectRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
-    public SubjectManagementService(SubjectRepository subjectRepository) {
+    public SubjectManagementService(SubjectRepository subjectRepository,
+                                    GradeStatisticsRepository gradeStatisticsRepository) {
         this.subjectRepository = subjectRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public Subject createSubject(String subjectName, String subjectCode,
                                  Integer credits, String description) {
         validateSubjectData(subjectName, subjectCode, credits);
@@ -33,6 +43,7 @@ public class SubjectManagementService {
         return subjectRepository.save(subject);
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public Subject updateSubject(Integer subjectId, String subjectName,
                                  String subjectCode, Integer credits, String description) {
         Subject subject = subjectRepository.findById(subjectId)
@@ -48,15 +59,19 @@ public class SubjectManagementService {
         return subjectRepository.save(subject);
     }
 
+    @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
     public void deleteSubject(Integer subjectId) {
         if (!subjectRepository.existsById(subjectId)) {
             throw new ResourceNotFoundException("Subject", "id", subjectId);
         }
+        gradeStatisticsRepository.subtractGradesOfSubject(subjectId);
+        gradeStatisticsRepository.deleteScope(GradeStatistics.SCOPE_SUBJECT, subjectId);
         subjectRepository.deleteById(subjectId);
     }
 
-    public List<Subject> getAllSubjects() {
-        return subjectRepository.findAll();
+    @Cacheable(CacheConfig.SUBJECTS)
+    public List<SubjectSummary> getAllSubjects() {
+        return subjectRepository.findAllSummaries();
     }
 
     public Subject getSubjectById(Integer subjectId) {
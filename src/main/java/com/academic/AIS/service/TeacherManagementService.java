@@ -1,13 +1,20 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.config.CacheConfig;
+import com.academic.AIS.dto.projection.TeacherSummary;
 import com.academic.AIS.exception.ResourceNotFoundException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.model.Teacher;
 import com.academic.AIS.repository.GradeRepository;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import com.academic.AIS.repository.TeacherRepository;
 import com.academic.AIS.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -22,24 +29,32 @@ public class TeacherManagementService {
     private final AuthenticationService authenticationService;
     private final SubjectAssignmentRepository subjectAssignmentRepository;
     private final GradeRepository gradeRepository;
+    private final GradeStatisticsRepository gradeStatisticsRepository;
 
     @Autowired
     public TeacherManagementService(TeacherRepository teacherRepository,
                                     UserRepository userRepository,
                                     AuthenticationService authenticationService,
                                     SubjectAssignmentRepository subjectAssignmentRepository,
-                                    GradeRepository gradeRepository) {
+                                    GradeRepository gradeRepository,
+                                    GradeStatisticsRepository gradeStatisticsRepository) {
         this.teacherRepository = teacherRepository;
         this.userRepository = userRepository;
         this.authenticationService = authenticationService;
         this.subjectAssignmentRepository = subjectAssignmentRepository;
         this.gradeRepository = gradeRepository;
+        this.gradeStatisticsRepository = gradeStatisticsRepository;
     }
 
+    @CacheEvict(value = CacheConfig.TEACHERS, allEntries = true)
     public Teacher createTeacher(String firstName, String lastName, String email) {
         return authenticationService.registerTeacher(firstName, lastName, email);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
+    })
     public Teacher updateTeacher(Integer teacherId, String firstName, String lastName, String email) {
         Teacher teacher = teacherRepository.findById(teacherId)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", teacherId));
@@ -51,18 +66,26 @@ public class TeacherManagementService {
         return teacherRepository.save(teacher);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TEACHERS, allEntries = true),
+            @CacheEvict(value = CacheConfig.SUBJECTS, allEntries = true)
+    })
     public void deleteTeacher(Integer teacherId) {
         if (!teacherRepository.existsById(teacherId)) {
             throw new ResourceNotFoundException("Teacher", "id", teacherId);
         }
 
+        gradeStatisticsRepository.subtractGradesOfTeacher(teacherId);
+        gradeStatisticsRepository.deleteScope(GradeStatistics.SCOPE_TEACHER, teacherId);
+
         Integer userId = teacherId;
         teacherRepository.deleteById(teacherId);
         userRepository.deleteById(userId);
     }
 
-    public List<Teacher> getAllTeachers() {
-        return teacherRepository.findAll();
+    @Cacheable(CacheConfig.TEACHERS)
+    public List<TeacherSummary> getAllTeachers() {
+        return teacherRepository.findAllSummaries();
     }
 
     public Teacher getTeacherById(Integer teacherId) {
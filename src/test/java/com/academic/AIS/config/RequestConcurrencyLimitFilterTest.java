@@ -0,0 +1,52 @@
+package com.academic.AIS.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestConcurrencyLimitFilterTest {
+
+    private final RequestConcurrencyLimitFilter filter =
+            new RequestConcurrencyLimitFilter(1, Duration.ofMillis(10), 3);
+
+    @Test
+    void doFilter_NoSlotFree_Returns503WithRetryAfter() throws Exception {
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/teacher/grades"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/teacher/grades"),
+                        shed, (inner, innerResponse) -> fail("second request must not run")));
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("3", shed.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    void doFilter_ChainThrows_ReleasesSlot() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/admin/dashboard"), new MockHttpServletResponse(),
+                (request, response) -> { throw new IllegalStateException("boom"); }));
+
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    void doFilter_StaticResource_IsNotCounted() throws Exception {
+        AtomicBoolean served = new AtomicBoolean();
+        MockHttpServletRequest css = new MockHttpServletRequest("GET", "/css/style.css");
+        css.setServletPath("/css/style.css");
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/teacher/grades"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(css, new MockHttpServletResponse(),
+                        (inner, innerResponse) -> served.set(true)));
+
+        assertTrue(served.get());
+    }
+}
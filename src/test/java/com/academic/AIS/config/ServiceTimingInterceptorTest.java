@@ -0,0 +1,71 @@
+package com.academic.AIS.config;
+
+import com.academic.AIS.controller.web.teacher.TeacherController;
+import com.academic.AIS.dto.mapper.GradeMapper;
+import com.academic.AIS.service.GradeService;
+import com.academic.AIS.service.StatisticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceTimingInterceptorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Calculator calculator = proxy(new Calculator());
+
+    @Test
+    void invoke_Success_RecordsTimerWithoutException() {
+        assertEquals(2, calculator.divide(4, 2));
+
+        Timer timer = registry.get(ServiceTimingInterceptor.METRIC_NAME)
+                .tags("class", "Calculator", "method", "divide", "exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_Throws_RecordsExceptionTagAndRethrows() {
+        assertThrows(ArithmeticException.class, () -> calculator.divide(1, 0));
+
+        Timer timer = registry.get(ServiceTimingInterceptor.METRIC_NAME)
+                .tags("method", "divide", "exception", "ArithmeticException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void pointcut_MatchesOnlyServicePackageServices() throws Exception {
+        MetricsConfig.ServiceMethodPointcut pointcut = new MetricsConfig.ServiceMethodPointcut();
+
+        assertTrue(pointcut.getClassFilter().matches(StatisticsService.class));
+        assertTrue(pointcut.getClassFilter().matches(GradeService.class));
+        assertFalse(pointcut.getClassFilter().matches(TeacherController.class));
+        assertFalse(pointcut.getClassFilter().matches(GradeMapper.class));
+
+        assertTrue(pointcut.matches(
+                StatisticsService.class.getMethod("getSystemStatistics"), StatisticsService.class));
+        assertFalse(pointcut.matches(Object.class.getMethod("toString"), StatisticsService.class));
+    }
+
+    private Calculator proxy(Calculator target) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new ServiceTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class)));
+        return (Calculator) factory.getProxy();
+    }
+
+    static class Calculator {
+        public int divide(int dividend, int divisor) {
+            return dividend / divisor;
+        }
+    }
+}
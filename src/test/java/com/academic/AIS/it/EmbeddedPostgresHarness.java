@@ -0,0 +1,99 @@
+package com.academic.AIS.it;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * One embedded PostgreSQL per test JVM (a bundled binary: no Docker, no network), migrated with the real
+ * Liquibase changelog and seeded with {@link SyntheticDataset}. Seeding is the slow part, so every
+ * integration test class shares the instance and must leave the seeded rows unchanged.
+ * <p>
+ * Test classes using it carry {@code @Tag(EmbeddedPostgresHarness.TAG)}; surefire excludes that tag, so they
+ * only run under failsafe with -Pintegration-tests whatever their class name.
+ */
+final class EmbeddedPostgresHarness {
+
+    static final String TAG = "embedded-postgres";
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedPostgresHarness.class);
+
+    private static EmbeddedPostgresHarness shared;
+
+    private final EmbeddedPostgres postgres;
+    private final SyntheticDataset dataset;
+
+    private EmbeddedPostgresHarness(EmbeddedPostgres postgres, SyntheticDataset dataset) {
+        this.postgres = postgres;
+        this.dataset = dataset;
+    }
+
+    static synchronized EmbeddedPostgresHarness shared() {
+        if (shared == null) {
+            shared = start(SyntheticDataset.fromSystemProperties());
+        }
+        return shared;
+    }
+
+    private static EmbeddedPostgresHarness start(SyntheticDataset dataset) {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (Exception e) {
+                    logger.warn("Could not stop embedded PostgreSQL", e);
+                }
+            }));
+
+            DataSource dataSource = postgres.getPostgresDatabase();
+            try (Connection connection = dataSource.getConnection()) {
+                Database database = DatabaseFactory.getInstance()
+                        .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+                new Liquibase("db/changelog/db.changelog-master.xml", new ClassLoaderResourceAccessor(), database)
+                        .update(new Contexts(), new LabelExpression());
+            }
+
+            long started = System.nanoTime();
+            dataset.seed(dataSource);
+            logger.info("Seeded {} in {} ms", dataset, (System.nanoTime() - started) / 1_000_000);
+
+            return new EmbeddedPostgresHarness(postgres, dataset);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start the embedded PostgreSQL harness", e);
+        }
+    }
+
+    DataSource dataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    SyntheticDataset dataset() {
+        return dataset;
+    }
+
+    void execute(String... statements) throws SQLException {
+        try (Connection connection = dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
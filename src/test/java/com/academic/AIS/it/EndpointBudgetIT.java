@@ -0,0 +1,195 @@
+package com.academic.AIS.it;
+
+import com.academic.AIS.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-endpoint SQL statement and latency budgets against the seeded harness database. Statement counts come
+ * from Hibernate Statistics, so an N+1 or a query that starts running per row fails here regardless of
+ * dataset size; latency is the median of several calls after a warm-up and catches plans that stop scaling
+ * with -Dais.it.students/-Dais.it.assignments. The default latency budget (ais.it.latency-budget-ms) is
+ * deliberately loose for shared CI machines.
+ * <p>
+ * The login budget needs a real password and leaves refresh tokens behind; both are undone after the class
+ * so the shared database is back to its seeded state.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag(EmbeddedPostgresHarness.TAG)
+class EndpointBudgetIT {
+
+    private static final EmbeddedPostgresHarness database = EmbeddedPostgresHarness.shared();
+
+    private static final long LATENCY_BUDGET_MS = Long.getLong("ais.it.latency-budget-ms", 300);
+    private static final long LOGIN_LATENCY_BUDGET_MS = Long.getLong("ais.it.login-latency-budget-ms", 1000);
+    private static final int TIMED_RUNS = 5;
+    private static final String PASSWORD = "budget-test";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private Environment environment;
+
+    private Statistics statistics;
+    private int teacherId;
+    private String teacherToken;
+    private String adminToken;
+
+    @DynamicPropertySource
+    static void harnessProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        // The harness has already applied the changelog before seeding
+        registry.add("spring.liquibase.enabled", () -> "false");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("logging.level.com.academic", () -> "INFO");
+
+        // Placeholders application.properties normally takes from .env
+        registry.add("APP_NAME", () -> "ais-it");
+        registry.add("SERVER_PORT", () -> "0");
+        registry.add("JWT_SECRET", () -> "integration-test-secret-integration-test-secret-0123456789abcdef");
+        registry.add("JWT_EXPIRATION", () -> "3600000");
+        registry.add("JWT_REFRESH_EXPIRATION", () -> "86400000");
+        registry.add("SPRING_SECURITY_USERNAME", () -> "it");
+        registry.add("SPRING_SECURITY_PASSWORD", () -> "it");
+    }
+
+    @BeforeAll
+    static void loginAccount() throws SQLException {
+        int teacherId = database.dataset().teacherId(42);
+        String hash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(PASSWORD);
+        database.execute("UPDATE user_account SET password = '" + hash + "' WHERE user_id = " + teacherId);
+    }
+
+    @AfterAll
+    static void restoreAccount() throws SQLException {
+        int teacherId = database.dataset().teacherId(42);
+        database.execute(
+                "DELETE FROM refresh_token WHERE user_id = " + teacherId,
+                "UPDATE user_account SET password = 'x' WHERE user_id = " + teacherId);
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        teacherId = database.dataset().teacherId(42);
+        teacherToken = jwtTokenProvider.generateToken(
+                "teacher" + teacherId, "TEACHER", teacherId, teacherId, "Teacher T" + teacherId);
+        adminToken = jwtTokenProvider.generateToken("admin", "ADMINISTRATOR", 1, 1, "System Administrator");
+    }
+
+    @Test
+    void teacherAssignments() throws Exception {
+        assertWithinBudget(get("/api/teacher/assignments", teacherToken), 1, LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void teacherStatistics() throws Exception {
+        // assignments, assignment count, distinct students, grade_statistics row
+        assertWithinBudget(get("/api/teacher/statistics", teacherToken), 4, LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void teacherGradePage() throws Exception {
+        assertWithinBudget(get("/api/teacher/grades?limit=50", teacherToken), 1, LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void teacherGradesBySubject() throws Exception {
+        int subjectId = database.dataset().subjectOfAssignment(42);
+        assertWithinBudget(get("/api/teacher/grades/subject/" + subjectId, teacherToken), 1, LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void teacherGradesByAssignment() throws Exception {
+        int assignmentId = database.dataset().assignmentId(42);
+        // ownership check against the teacher's assignments, then the grades
+        assertWithinBudget(get("/api/teacher/grades/assignment/" + assignmentId, teacherToken), 2,
+                LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void adminStudentPage() throws Exception {
+        assertWithinBudget(get("/api/admin/students?limit=50", adminToken), 1, LATENCY_BUDGET_MS);
+    }
+
+    @Test
+    void apiLogin() throws Exception {
+        String body = "{\"username\":\"teacher" + teacherId + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpRequest login = HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        // identity query, refresh token insert
+        assertWithinBudget(login, 2, LOGIN_LATENCY_BUDGET_MS);
+    }
+
+    private void assertWithinBudget(HttpRequest request, long statementBudget, long latencyBudgetMs)
+            throws Exception {
+        String endpoint = request.method() + " " + request.uri().getRawPath();
+        assertSuccess(endpoint, client.send(request, HttpResponse.BodyHandlers.ofString()));
+
+        long[] elapsedMs = new long[TIMED_RUNS];
+        long statements = 0;
+        for (int run = 0; run < TIMED_RUNS; run++) {
+            statistics.clear();
+            long started = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            elapsedMs[run] = (System.nanoTime() - started) / 1_000_000;
+            assertSuccess(endpoint, response);
+            statements = Math.max(statements, statistics.getPrepareStatementCount());
+        }
+        Arrays.sort(elapsedMs);
+        long medianMs = elapsedMs[TIMED_RUNS / 2];
+
+        assertTrue(statements <= statementBudget,
+                endpoint + " ran " + statements + " SQL statements, budget " + statementBudget);
+        assertTrue(medianMs <= latencyBudgetMs,
+                endpoint + " took " + medianMs + " ms (median), budget " + latencyBudgetMs + " ms on "
+                        + database.dataset());
+    }
+
+    private static void assertSuccess(String endpoint, HttpResponse<String> response) {
+        assertEquals(200, response.statusCode(), () -> endpoint + " failed: " + response.body());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + environment.getProperty("local.server.port") + path);
+    }
+}
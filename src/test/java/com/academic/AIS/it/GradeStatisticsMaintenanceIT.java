@@ -0,0 +1,102 @@
+package com.academic.AIS.it;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static com.academic.AIS.repository.GradeStatisticsRepository.ADD_GRADES;
+import static com.academic.AIS.repository.GradeStatisticsRepository.GRADE_SCOPES;
+import static com.academic.AIS.repository.GradeStatisticsRepository.SUBTRACT_GRADES;
+import static com.academic.AIS.repository.GradeStatisticsRepository.UPSERT_DELTA;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the scoped subtract statements of GradeStatisticsRepository against the seeded grades: after
+ * subtracting and then deleting the grades of a teacher or group, grade_statistics must equal a recomputation
+ * from what is left. Each test runs in a transaction that is rolled back, so the seeded rows stay unchanged.
+ */
+@Tag(EmbeddedPostgresHarness.TAG)
+class GradeStatisticsMaintenanceIT {
+
+    private static final String RECOMPUTED = "SELECT v.scope, v.scope_id, COUNT(*), SUM(g.grade_value), " +
+            "SUM(CASE WHEN g.grade_value >= 5 THEN 1 ELSE 0 END) " + GRADE_SCOPES +
+            "GROUP BY v.scope, v.scope_id";
+
+    private static final String STORED = "SELECT scope, scope_id, grade_count, grade_sum, passing_count " +
+            "FROM grade_statistics WHERE grade_count <> 0";
+
+    private static EmbeddedPostgresHarness database;
+    private static int teacher;
+    private static int group;
+
+    @BeforeAll
+    static void seededDatabase() {
+        database = EmbeddedPostgresHarness.shared();
+        teacher = database.dataset().teacherId(42);
+        group = database.dataset().groupId(16);
+    }
+
+    @Test
+    void subtractGradesOfTeacher_MatchesRecomputation() throws SQLException {
+        assertSubtractMatches(
+                SUBTRACT_GRADES + "WHERE a.teacher_id = ? " + UPSERT_DELTA,
+                "DELETE FROM grade WHERE assignment_id IN " +
+                        "(SELECT assignment_id FROM subject_assignment WHERE teacher_id = ?)",
+                teacher);
+    }
+
+    @Test
+    void subtractGradesOfGroup_CoversAssignmentsAndMembers() throws SQLException {
+        assertSubtractMatches(
+                SUBTRACT_GRADES + "WHERE a.group_id = ? " +
+                        "OR g.student_id IN (SELECT s.student_id FROM student s WHERE s.group_id = ?) " + UPSERT_DELTA,
+                "DELETE FROM grade WHERE assignment_id IN " +
+                        "(SELECT assignment_id FROM subject_assignment WHERE group_id = ?) " +
+                        "OR student_id IN (SELECT student_id FROM student WHERE group_id = ?)",
+                group);
+    }
+
+    private void assertSubtractMatches(String subtractSql, String deleteSql, int scopeId) throws SQLException {
+        try (Connection connection = database.dataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // The harness only seeds teacher rows; start from complete statistics
+                statement.execute("DELETE FROM grade_statistics");
+                statement.execute(ADD_GRADES + UPSERT_DELTA);
+
+                int subtracted = executeWithId(connection, subtractSql, scopeId);
+                int deleted = executeWithId(connection, deleteSql, scopeId);
+                assertTrue(subtracted > 0 && deleted > 0, "the chosen scope has no grades");
+
+                assertEquals(0, count(statement, "(" + STORED + ") EXCEPT (" + RECOMPUTED + ")"),
+                        "statistics rows that do not match the remaining grades");
+                assertEquals(0, count(statement, "(" + RECOMPUTED + ") EXCEPT (" + STORED + ")"),
+                        "remaining grades missing from the statistics");
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static int executeWithId(Connection connection, String sql, int id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setInt(i, id);
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    private static long count(Statement statement, String query) throws SQLException {
+        try (ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM (" + query + ") diff")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.academic.AIS.it;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the lookup indexes: runs EXPLAIN for the SQL shape of each selective GradeRepository,
+ * SubjectAssignmentRepository and StudentRepository query against the seeded harness database and fails when
+ * the planner scans a filtered table sequentially. The SQL mirrors what Hibernate generates for the JPQL;
+ * keep it in step when a query changes. Unfiltered queries (export of all grades) read
+ * whole tables by design and are not covered.
+ */
+@Tag(EmbeddedPostgresHarness.TAG)
+class RepositoryQueryPlanIT {
+
+    private static EmbeddedPostgresHarness database;
+
+    private static int teacher;
+    private static int subjectOfTeacher;
+    private static int student;
+    private static int assignment;
+    private static int group;
+    private static String academicYear;
+    private static long middleGradeId;
+
+    @BeforeAll
+    static void seededDatabase() {
+        database = EmbeddedPostgresHarness.shared();
+        SyntheticDataset dataset = database.dataset();
+        teacher = dataset.teacherId(42);
+        subjectOfTeacher = dataset.subjectOfAssignment(42);
+        student = dataset.studentId(76);
+        assignment = dataset.assignmentId(1233);
+        group = dataset.groupId(16);
+        academicYear = dataset.academicYearOfAssignment(1233);
+        middleGradeId = dataset.gradeCount() / 2;
+    }
+
+    @Test
+    void gradeCountByTeacher_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.countByTeacher",
+                "SELECT COUNT(g.grade_id) FROM grade g " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "WHERE a.teacher_id = " + teacher,
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradesByTeacher_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.findByTeacher_TeacherId",
+                "SELECT g.*, s.*, su.*, a.*, sub.*, grp.*, t.*, tu.* FROM grade g " +
+                        "JOIN student s ON s.student_id = g.student_id " +
+                        "JOIN user_account su ON su.user_id = s.student_id " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "JOIN subject sub ON sub.subject_id = a.subject_id " +
+                        "JOIN study_group grp ON grp.group_id = a.group_id " +
+                        "JOIN teacher t ON t.teacher_id = a.teacher_id " +
+                        "JOIN user_account tu ON tu.user_id = t.teacher_id " +
+                        "WHERE t.teacher_id = " + teacher,
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradeResponsesByTeacherPage_UsesIndexes() throws SQLException {
+        String select = "SELECT g.grade_id, s.student_id, s.first_name, s.last_name, sub.subject_id, " +
+                "sub.subject_name, sub.subject_code, g.grade_value, g.grade_date, g.comments, " +
+                "t.first_name, t.last_name " +
+                "FROM grade g " +
+                "JOIN student s ON s.student_id = g.student_id " +
+                "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                "JOIN subject sub ON sub.subject_id = a.subject_id " +
+                "JOIN teacher t ON t.teacher_id = a.teacher_id " +
+                "WHERE t.teacher_id = " + teacher;
+        assertUsesIndex("GradeRepository.findResponsesByTeacher",
+                select + " ORDER BY g.grade_id LIMIT 21",
+                "idx_grade_assignment_keyset", "grade", "subject_assignment");
+        assertUsesIndex("GradeRepository.findResponsesByTeacherAfter",
+                select + " AND g.grade_id > " + middleGradeId + " ORDER BY g.grade_id LIMIT 21",
+                "idx_grade_assignment_keyset", "grade", "subject_assignment");
+    }
+
+    @Test
+    void distinctStudentsByTeacher_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.countDistinctStudentsByTeacher",
+                "SELECT COUNT(DISTINCT g.student_id) FROM grade g " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "WHERE a.teacher_id = " + teacher,
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradesByTeacherAndSubject_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.findByTeacherAndSubject",
+                "SELECT g.*, s.*, u.*, a.*, sub.*, grp.* FROM grade g " +
+                        "JOIN student s ON s.student_id = g.student_id " +
+                        "JOIN user_account u ON u.user_id = s.student_id " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "JOIN subject sub ON sub.subject_id = a.subject_id " +
+                        "JOIN study_group grp ON grp.group_id = a.group_id " +
+                        "WHERE sub.subject_id = " + subjectOfTeacher + " AND a.teacher_id = " + teacher +
+                        " ORDER BY s.last_name, s.first_name",
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradeHistogramByTeacher_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.countByGradeValue",
+                "SELECT g.grade_value, COUNT(g.grade_id) FROM grade g " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "WHERE a.teacher_id = " + teacher + " GROUP BY g.grade_value",
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradesByStudent_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.findByStudentWithDetails",
+                "SELECT g.*, a.*, sub.*, t.* FROM grade g " +
+                        "JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                        "JOIN subject sub ON sub.subject_id = a.subject_id " +
+                        "JOIN teacher t ON t.teacher_id = a.teacher_id " +
+                        "WHERE g.student_id = " + student + " ORDER BY g.grade_date DESC",
+                "grade", "subject_assignment");
+    }
+
+    @Test
+    void gradeExistsForStudentAndAssignment_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.existsByStudentAndAssignment",
+                "SELECT COUNT(g.grade_id) FROM grade g " +
+                        "WHERE g.student_id = " + student + " AND g.assignment_id = " + assignment,
+                "grade");
+    }
+
+    @Test
+    void gradesByAssignment_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.findByAssignment_AssignmentIdOrderByGradeDateDesc",
+                "SELECT g.* FROM grade g WHERE g.assignment_id = " + assignment + " ORDER BY g.grade_date DESC",
+                "grade");
+        assertNoSeqScan("GradeRepository.findGradedStudentIds",
+                "SELECT g.student_id FROM grade g WHERE g.assignment_id = " + assignment +
+                        " AND g.student_id IN (" + student + ", " + (student + 1) + ", " + (student + 2) + ")",
+                "grade");
+    }
+
+    @Test
+    void assignmentsByTeacher_UsesIndexes() throws SQLException {
+        assertNoSeqScan("SubjectAssignmentRepository.findByTeacher_TeacherId",
+                "SELECT DISTINCT sa.*, sub.*, grp.*, s.* FROM subject_assignment sa " +
+                        "LEFT JOIN subject sub ON sub.subject_id = sa.subject_id " +
+                        "LEFT JOIN study_group grp ON grp.group_id = sa.group_id " +
+                        "LEFT JOIN student s ON s.group_id = grp.group_id " +
+                        "WHERE sa.teacher_id = " + teacher,
+                "subject_assignment");
+        assertNoSeqScan("SubjectAssignmentRepository.countByTeacher_TeacherId",
+                "SELECT COUNT(sa.assignment_id) FROM subject_assignment sa WHERE sa.teacher_id = " + teacher,
+                "subject_assignment");
+    }
+
+    @Test
+    void assignmentsByGroupAndSubject_UseIndexes() throws SQLException {
+        assertNoSeqScan("SubjectAssignmentRepository.findByGroup_GroupId",
+                "SELECT sa.* FROM subject_assignment sa WHERE sa.group_id = " + group,
+                "subject_assignment");
+        assertNoSeqScan("SubjectAssignmentRepository.findBySubject_SubjectId",
+                "SELECT sa.* FROM subject_assignment sa WHERE sa.subject_id = " + subjectOfTeacher,
+                "subject_assignment");
+    }
+
+    @Test
+    void assignmentsByAcademicYearAndSemester_UsesIndexes() throws SQLException {
+        assertNoSeqScan("GradeRepository.streamForExport (assignment filter)",
+                "SELECT sa.assignment_id FROM subject_assignment sa " +
+                        "WHERE sa.academic_year = '" + academicYear + "' AND sa.semester = 'FALL'",
+                "subject_assignment");
+    }
+
+    @Test
+    void studentsByGroup_UsesIndexes() throws SQLException {
+        assertNoSeqScan("StudentRepository.findByGroup_GroupId",
+                "SELECT s.* FROM student s WHERE s.group_id = " + group,
+                "student");
+        assertNoSeqScan("StudentRepository.findIdsInGroup",
+                "SELECT s.student_id FROM student s WHERE s.group_id = " + group +
+                        " AND s.student_id IN (" + student + ", " + (student + 400) + ", " + (student + 800) + ")",
+                "student");
+        assertNoSeqScan("StudentRepository.countByGroupIds",
+                "SELECT COUNT(s.student_id) FROM student s WHERE s.group_id IN (" + group + ", " + (group + 1) + ")",
+                "student");
+    }
+
+    @Test
+    void studentPage_UsesIndexes() throws SQLException {
+        String select = "SELECT s.*, u.*, grp.* FROM student s " +
+                "JOIN user_account u ON u.user_id = s.student_id " +
+                "LEFT JOIN study_group grp ON grp.group_id = s.group_id ";
+        assertUsesIndex("StudentRepository.findFirstPage",
+                select + "ORDER BY s.last_name, s.first_name, s.student_id LIMIT 51",
+                "idx_student_name_keyset", "student");
+        assertUsesIndex("StudentRepository.findPageAfter",
+                select + "WHERE (s.last_name, s.first_name, s.student_id) > ('S5', 'Student', " + student + ") " +
+                        "ORDER BY s.last_name, s.first_name, s.student_id LIMIT 51",
+                "idx_student_name_keyset", "student");
+    }
+
+    /**
+     * For the keyset pages, where avoiding a sequential scan is not enough: a scan of the primary key in
+     * order would also pass, but reads every row before the cursor.
+     */
+    private static void assertUsesIndex(String query, String sql, String index, String... tables)
+            throws SQLException {
+        assertNoSeqScan(query, sql, tables);
+        List<String> plan = explain(sql);
+        assertTrue(plan.stream().anyMatch(line -> line.contains(index)),
+                () -> query + " does not use " + index + ":\n" + String.join("\n", plan));
+    }
+
+    private static void assertNoSeqScan(String query, String sql, String... tables) throws SQLException {
+        List<String> plan = explain(sql);
+        for (String table : tables) {
+            Pattern seqScan = Pattern.compile("Seq Scan on " + table + "\\b");
+            boolean scanned = plan.stream().anyMatch(line -> seqScan.matcher(line).find());
+            assertFalse(scanned, () -> query + " scans " + table + " sequentially:\n" + String.join("\n", plan));
+        }
+    }
+
+    private static List<String> explain(String sql) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = database.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rs.next()) {
+                plan.add(rs.getString(1));
+            }
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,142 @@
+package com.academic.AIS.it;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * Deterministic synthetic data for the integration tests, generated in the database with generate_series.
+ * Sizes come from system properties so the same tests run small in CI and at production scale locally:
+ * <pre>
+ * mvn verify -Pintegration-tests -Dais.it.students=50000 -Dais.it.assignments=40000
+ * </pre>
+ * (50,000 students and 40,000 assignments x 50 grades = 2,000,000 grades). Every id is derived from its
+ * index, so tests can name rows without querying for them.
+ */
+final class SyntheticDataset {
+
+    private static final int TEACHER_ID_BASE = 1_000;
+    private static final int STUDENT_ID_BASE = 1_000_000;
+
+    private final int teachers;
+    private final int groups;
+    private final int subjects;
+    private final int students;
+    private final int assignments;
+    private final int gradesPerAssignment;
+
+    SyntheticDataset(int teachers, int groups, int subjects, int students, int assignments,
+                     int gradesPerAssignment) {
+        if (gradesPerAssignment > students) {
+            throw new IllegalArgumentException("grades-per-assignment cannot exceed the number of students");
+        }
+        this.teachers = teachers;
+        this.groups = groups;
+        this.subjects = subjects;
+        this.students = students;
+        this.assignments = assignments;
+        this.gradesPerAssignment = gradesPerAssignment;
+    }
+
+    static SyntheticDataset fromSystemProperties() {
+        return new SyntheticDataset(
+                Integer.getInteger("ais.it.teachers", 1_000),
+                Integer.getInteger("ais.it.groups", 400),
+                Integer.getInteger("ais.it.subjects", 200),
+                Integer.getInteger("ais.it.students", 20_000),
+                Integer.getInteger("ais.it.assignments", 16_000),
+                Integer.getInteger("ais.it.grades-per-assignment", 50));
+    }
+
+    int teacherId(int index) { return TEACHER_ID_BASE + 1 + index % teachers; }
+    int studentId(int index) { return STUDENT_ID_BASE + 1 + index % students; }
+    int groupId(int index) { return 1 + index % groups; }
+
+    /** Assignment {@code index} belongs to teacher {@code index}, so each teacher's first assignment is known. */
+    int assignmentId(int index) { return 1 + index % assignments; }
+    int subjectOfAssignment(int index) { return 1 + index % subjects; }
+    String academicYearOfAssignment(int index) { return academicYear(index / yearBlock()); }
+
+    long gradeCount() { return (long) assignments * gradesPerAssignment; }
+
+    void seed(DataSource dataSource) throws SQLException {
+        int yearBlock = yearBlock();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO user_account (user_id, username, password, role) " +
+                    "SELECT id, 'teacher' || id, 'x', 'TEACHER' " +
+                    "FROM generate_series(" + (TEACHER_ID_BASE + 1) + ", " + (TEACHER_ID_BASE + teachers) + ") id");
+            statement.execute("INSERT INTO teacher (teacher_id, first_name, last_name, email) " +
+                    "SELECT id, 'Teacher', 'T' || id, 't' || id || '@example.edu' " +
+                    "FROM generate_series(" + (TEACHER_ID_BASE + 1) + ", " + (TEACHER_ID_BASE + teachers) + ") id");
+            statement.execute("INSERT INTO study_group (group_id, group_name, year) " +
+                    "SELECT id, 'G-' || id, 1 + id % 4 FROM generate_series(1, " + groups + ") id");
+            statement.execute("INSERT INTO subject (subject_id, subject_name, subject_code, credits) " +
+                    "SELECT id, 'Subject ' || id, 'S' || id, 5 FROM generate_series(1, " + subjects + ") id");
+            statement.execute("INSERT INTO user_account (user_id, username, password, role) " +
+                    "SELECT " + STUDENT_ID_BASE + " + 1 + n, 'student' || n, 'x', 'STUDENT' " +
+                    "FROM generate_series(0, " + (students - 1) + ") n");
+            statement.execute("INSERT INTO student (student_id, first_name, last_name, email, group_id) " +
+                    "SELECT " + STUDENT_ID_BASE + " + 1 + n, 'Student', 'S' || n, 's' || n || '@example.edu', " +
+                    "1 + n % " + groups + " FROM generate_series(0, " + (students - 1) + ") n");
+            // (teacher, group) repeats every lcm(teachers, groups) rows; each such block is its own academic
+            // year, which keeps uk_assignment_unique satisfied at any size
+            statement.execute("INSERT INTO subject_assignment " +
+                    "(assignment_id, subject_id, teacher_id, group_id, academic_year, semester) " +
+                    "SELECT i + 1, 1 + i % " + subjects + ", " + (TEACHER_ID_BASE + 1) + " + i % " + teachers + ", " +
+                    "1 + i % " + groups + ", " +
+                    "(2000 + i / " + yearBlock + ") || '/' || (2001 + i / " + yearBlock + "), " +
+                    "CASE WHEN i % 2 = 0 THEN 'FALL' ELSE 'SPRING' END " +
+                    "FROM generate_series(0, " + (assignments - 1) + ") i");
+            statement.execute("INSERT INTO grade (grade_id, student_id, assignment_id, grade_value, grade_date) " +
+                    "SELECT a * " + gradesPerAssignment + " + k + 1, " +
+                    STUDENT_ID_BASE + " + 1 + (a * " + gradesPerAssignment + " + k) % " + students + ", " +
+                    "a + 1, 1 + (a + k) % 10, DATE '2024-01-01' + k " +
+                    "FROM generate_series(0, " + (assignments - 1) + ") a, " +
+                    "generate_series(0, " + (gradesPerAssignment - 1) + ") k");
+            // Teacher rows only: the statistics endpoints under test read those
+            statement.execute("INSERT INTO grade_statistics (scope, scope_id, grade_count, grade_sum, passing_count) " +
+                    "SELECT 'TEACHER', a.teacher_id, COUNT(*), SUM(g.grade_value), " +
+                    "SUM(CASE WHEN g.grade_value >= 5 THEN 1 ELSE 0 END) " +
+                    "FROM grade g JOIN subject_assignment a ON a.assignment_id = g.assignment_id " +
+                    "GROUP BY a.teacher_id");
+            // Application inserts must not collide with the explicit ids above
+            for (String[] sequence : new String[][]{
+                    {"user_account_user_id_seq", "user_account", "user_id"},
+                    {"study_group_group_id_seq", "study_group", "group_id"},
+                    {"subject_subject_id_seq", "subject", "subject_id"},
+                    {"subject_assignment_assignment_id_seq", "subject_assignment", "assignment_id"},
+                    {"grade_grade_id_seq", "grade", "grade_id"}}) {
+                statement.execute("SELECT setval('" + sequence[0] + "', (SELECT MAX(" + sequence[2] + ") FROM "
+                        + sequence[1] + ") + 1, false)");
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private int yearBlock() {
+        return lcm(teachers, groups);
+    }
+
+    private static String academicYear(int yearIndex) {
+        return (2000 + yearIndex) + "/" + (2001 + yearIndex);
+    }
+
+    private static int lcm(int a, int b) {
+        int x = a;
+        int y = b;
+        while (y != 0) {
+            int t = x % y;
+            x = y;
+            y = t;
+        }
+        return a / x * b;
+    }
+
+    @Override
+    public String toString() {
+        return teachers + " teachers, " + groups + " groups, " + subjects + " subjects, " + students
+                + " students, " + assignments + " assignments, " + gradeCount() + " grades";
+    }
+}
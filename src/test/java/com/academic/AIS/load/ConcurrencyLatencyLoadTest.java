@@ -0,0 +1,85 @@
+package com.academic.AIS.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency vs. latency sweep against a running instance; skipped unless -Dais.loadtest.base-url is set.
+ * Run it once with AIS_VIRTUAL_THREADS=false and once with true on the server and compare the tables:
+ * <pre>
+ * mvn test -Dtest=ConcurrencyLatencyLoadTest -Dais.loadtest.base-url=http://localhost:8080 \
+ *     -Dais.loadtest.username=teacher -Dais.loadtest.password=secret
+ * </pre>
+ * Optional: ais.loadtest.path (default /api/teacher/assignments), ais.loadtest.levels (default
+ * 1,16,64,256,1024) and ais.loadtest.seconds per level (default 10).
+ */
+@EnabledIfSystemProperty(named = "ais.loadtest.base-url", matches = ".+")
+class ConcurrencyLatencyLoadTest {
+
+    private final String path = System.getProperty("ais.loadtest.path", "/api/teacher/assignments");
+    private final Duration levelDuration = Duration.ofSeconds(Long.getLong("ais.loadtest.seconds", 10));
+    private final int[] levels = Arrays.stream(System.getProperty("ais.loadtest.levels", "1,16,64,256,1024")
+            .split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+    private final LoadTestClient client = new LoadTestClient(System.getProperty("ais.loadtest.base-url"));
+
+    @Test
+    void sweepConcurrencyLevels() throws Exception {
+        String token = client.login(System.getProperty("ais.loadtest.username"),
+                System.getProperty("ais.loadtest.password"));
+
+        System.out.printf("%nGET %s%s, %ds per level%n", client.baseUrl(), path, levelDuration.toSeconds());
+        System.out.printf("%11s %9s %9s %9s %9s %9s %7s %7s%n",
+                "concurrency", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "503", "errors");
+
+        for (int concurrency : levels) {
+            LatencyStats result = runLevel(token, concurrency);
+            System.out.printf("%11d %9d %9.0f %9.1f %9.1f %9.1f %7d %7d%n",
+                    concurrency, result.count(),
+                    result.count() / (double) levelDuration.toSeconds(),
+                    result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99),
+                    result.shed(), result.errors());
+
+            // Shedding (503) is the expected overload answer; anything else is a failure
+            assertEquals(0, result.errors(), "unexpected errors at concurrency " + concurrency);
+        }
+    }
+
+    private LatencyStats runLevel(String token, int concurrency) {
+        LatencyStats result = new LatencyStats();
+        HttpRequest request = client.request(path, token).GET().build();
+        long deadline = System.nanoTime() + levelDuration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (result.isSuccess(status)) {
+                                latencies.add(System.nanoTime() - started);
+                            }
+                        } catch (Exception e) {
+                            result.error();
+                        }
+                    }
+                    result.addAll(latencies);
+                });
+            }
+        }
+        return result;
+    }
+}
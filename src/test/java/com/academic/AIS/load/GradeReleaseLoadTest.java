@@ -0,0 +1,266 @@
+package com.academic.AIS.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays a grade-release spike against a running instance seeded by {@link LoadTestSeeder}: teachers browse
+ * their grades, open their statistics and submit whole assignments through the batch endpoint, while
+ * administrators page through the student list. Skipped unless -Dais.loadtest.base-url is set:
+ * <pre>
+ * mvn test -Dtest=GradeReleaseLoadTest -Dais.loadtest.base-url=http://localhost:8080 \
+ *     -Dais.loadtest.admin-username=admin -Dais.loadtest.admin-password=secret
+ * </pre>
+ * Optional: ais.loadtest.users (virtual users, default 100), ais.loadtest.seconds (default 60),
+ * ais.loadtest.manifest (default target/loadtest-manifest.tsv) and ais.loadtest.mix as weights per operation
+ * (default grades=50,statistics=30,release=10,students=10). Without admin credentials the students share is
+ * dropped. Once a teacher has released every seeded assignment, release re-submits one; all rows then come
+ * back rejected as already graded, which still runs the batch validation queries.
+ */
+@EnabledIfSystemProperty(named = "ais.loadtest.base-url", matches = ".+")
+class GradeReleaseLoadTest {
+
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int PAGE_SIZE = 50;
+
+    private final Duration runDuration = Duration.ofSeconds(Long.getLong("ais.loadtest.seconds", 60));
+    private final int users = Integer.getInteger("ais.loadtest.users", 100);
+    private final Path manifest = Path.of(System.getProperty("ais.loadtest.manifest",
+            LoadTestSeeder.DEFAULT_MANIFEST.toString()));
+    private final String adminUsername = System.getProperty("ais.loadtest.admin-username");
+    private final String adminPassword = System.getProperty("ais.loadtest.admin-password");
+
+    private final LoadTestClient client = new LoadTestClient(System.getProperty("ais.loadtest.base-url"));
+
+    enum Operation {
+        GRADES, STATISTICS, RELEASE, STUDENTS
+    }
+
+    @Test
+    void gradeReleaseSpike() throws Exception {
+        List<TeacherSession> teachers = loginTeachers(readManifest());
+        String adminToken = adminUsername != null ? client.login(adminUsername, adminPassword) : null;
+        int[] weights = parseMix(System.getProperty("ais.loadtest.mix",
+                "grades=50,statistics=30,release=10,students=10"), adminToken != null);
+
+        Map<Operation, LatencyStats> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, new LatencyStats());
+        }
+        LatencyStats total = new LatencyStats();
+        long deadline = System.nanoTime() + runDuration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                TeacherSession teacher = teachers.get(i % teachers.size());
+                workers.submit(() -> runUser(teacher, adminToken, weights, deadline, results, total));
+            }
+        }
+
+        report(results, total);
+        for (Operation operation : Operation.values()) {
+            // Shedding (503) is the expected overload answer; anything else is a failure
+            assertEquals(0, results.get(operation).errors(), "unexpected errors for " + operation);
+        }
+    }
+
+    private void runUser(TeacherSession teacher, String adminToken, int[] weights, long deadline,
+                         Map<Operation, LatencyStats> results, LatencyStats total) {
+        Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ArrayList<>());
+        }
+        String[] cursors = new String[Operation.values().length];
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(weights);
+            LatencyStats stats = results.get(operation);
+            long started = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(
+                        buildRequest(operation, teacher, adminToken, cursors[operation.ordinal()]),
+                        HttpResponse.BodyHandlers.ofString());
+                if (stats.isSuccess(response.statusCode())) {
+                    latencies.get(operation).add(System.nanoTime() - started);
+                    // Page through the listing like a user scrolling; start over after the last page
+                    if (operation == Operation.GRADES || operation == Operation.STUDENTS) {
+                        Matcher matcher = NEXT_CURSOR.matcher(response.body());
+                        cursors[operation.ordinal()] = matcher.find() ? matcher.group(1) : null;
+                    }
+                }
+            } catch (Exception e) {
+                stats.error();
+            }
+        }
+
+        for (Map.Entry<Operation, List<Long>> entry : latencies.entrySet()) {
+            results.get(entry.getKey()).addAll(entry.getValue());
+            total.addAll(entry.getValue());
+        }
+    }
+
+    private HttpRequest buildRequest(Operation operation, TeacherSession teacher, String adminToken,
+                                     String cursor) {
+        return switch (operation) {
+            case GRADES -> client.request(pagePath("/api/teacher/grades", cursor), teacher.token).GET().build();
+            case STATISTICS -> client.request("/api/teacher/statistics", teacher.token).GET().build();
+            case STUDENTS -> client.request(pagePath("/api/admin/students", cursor), adminToken).GET().build();
+            case RELEASE -> client.request("/api/teacher/grades/batch", teacher.token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(releaseBody(teacher.nextRelease())))
+                    .build();
+        };
+    }
+
+    private static String pagePath(String path, String cursor) {
+        return cursor == null
+                ? path + "?limit=" + PAGE_SIZE
+                : path + "?limit=" + PAGE_SIZE + "&after=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+    }
+
+    private static String releaseBody(ManifestAssignment assignment) {
+        StringBuilder body = new StringBuilder(64 + assignment.studentIds.length * 40)
+                .append("{\"assignmentId\":").append(assignment.assignmentId).append(",\"grades\":[");
+        for (int i = 0; i < assignment.studentIds.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            int gradeValue = ThreadLocalRandom.current().nextInt(11);
+            body.append("{\"studentId\":").append(assignment.studentIds[i])
+                    .append(",\"gradeValue\":").append(gradeValue).append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static Operation pick(int[] weights) {
+        int roll = ThreadLocalRandom.current().nextInt(weights[weights.length - 1]);
+        for (int i = 0; i < weights.length; i++) {
+            if (roll < weights[i]) {
+                return Operation.values()[i];
+            }
+        }
+        throw new IllegalStateException("roll " + roll + " outside " + Arrays.toString(weights));
+    }
+
+    /**
+     * @return cumulative weights indexed by operation ordinal
+     */
+    private static int[] parseMix(String mix, boolean withAdmin) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        if (!withAdmin) {
+            weights.remove(Operation.STUDENTS);
+        }
+
+        int[] cumulative = new int[Operation.values().length];
+        int sum = 0;
+        for (Operation operation : Operation.values()) {
+            sum += weights.getOrDefault(operation, 0);
+            cumulative[operation.ordinal()] = sum;
+        }
+        assertTrue(sum > 0, "ais.loadtest.mix selects no operation: " + mix);
+        return cumulative;
+    }
+
+    private void report(Map<Operation, LatencyStats> results, LatencyStats total) {
+        double seconds = runDuration.toSeconds();
+        int shed = 0;
+        int errors = 0;
+
+        System.out.printf("%n%s, %d users, %ds%n", client.baseUrl(), users, runDuration.toSeconds());
+        System.out.printf("%-10s %9s %9s %9s %9s %7s %7s%n",
+                "operation", "requests", "req/s", "p50 ms", "p99 ms", "503", "errors");
+        for (Operation operation : Operation.values()) {
+            LatencyStats stats = results.get(operation);
+            shed += stats.shed();
+            errors += stats.errors();
+            System.out.printf("%-10s %9d %9.0f %9.1f %9.1f %7d %7d%n",
+                    operation.name().toLowerCase(), stats.count(), stats.count() / seconds,
+                    stats.percentileMillis(50), stats.percentileMillis(99), stats.shed(), stats.errors());
+        }
+        System.out.printf("%-10s %9d %9.0f %9.1f %9.1f %7d %7d%n",
+                "total", total.count(), total.count() / seconds,
+                total.percentileMillis(50), total.percentileMillis(99), shed, errors);
+    }
+
+    private List<ManifestAssignment> readManifest() throws IOException {
+        assertTrue(Files.exists(manifest), "no manifest at " + manifest.toAbsolutePath()
+                + "; run LoadTestSeeder first (-Dais.loadtest.seed=true)");
+
+        List<ManifestAssignment> assignments = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            assignments.add(new ManifestAssignment(columns[0], Integer.parseInt(columns[1]),
+                    Boolean.parseBoolean(columns[2]),
+                    Arrays.stream(columns[3].split(",")).mapToInt(Integer::parseInt).toArray()));
+        }
+        assertFalse(assignments.isEmpty(), "manifest " + manifest + " lists no assignments");
+        return assignments;
+    }
+
+    private List<TeacherSession> loginTeachers(List<ManifestAssignment> assignments) throws Exception {
+        Map<String, List<ManifestAssignment>> byTeacher = new LinkedHashMap<>();
+        for (ManifestAssignment assignment : assignments) {
+            byTeacher.computeIfAbsent(assignment.username, username -> new ArrayList<>()).add(assignment);
+        }
+
+        List<TeacherSession> sessions = new ArrayList<>(byTeacher.size());
+        for (Map.Entry<String, List<ManifestAssignment>> entry : byTeacher.entrySet()) {
+            String token = client.login(entry.getKey(), LoadTestSeeder.PASSWORD);
+            sessions.add(new TeacherSession(token, entry.getValue()));
+        }
+        return sessions;
+    }
+
+    private record ManifestAssignment(String username, int assignmentId, boolean graded, int[] studentIds) {
+    }
+
+    private static final class TeacherSession {
+        private final String token;
+        private final List<ManifestAssignment> assignments;
+        private final Queue<ManifestAssignment> unreleased = new ConcurrentLinkedQueue<>();
+
+        private TeacherSession(String token, List<ManifestAssignment> assignments) {
+            this.token = token;
+            this.assignments = assignments;
+            assignments.stream().filter(a -> !a.graded).forEach(unreleased::add);
+        }
+
+        private ManifestAssignment nextRelease() {
+            ManifestAssignment next = unreleased.poll();
+            return next != null
+                    ? next
+                    : assignments.get(ThreadLocalRandom.current().nextInt(assignments.size()));
+        }
+    }
+}
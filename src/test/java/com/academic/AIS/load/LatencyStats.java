@@ -0,0 +1,67 @@
+package com.academic.AIS.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latencies of successful requests plus counts of shed (503) and failed ones. Workers collect latencies in a
+ * local list and add them once at the end, so recording does not contend with the requests being measured.
+ */
+final class LatencyStats {
+
+    private final List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger shed = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    /**
+     * Classifies a response: 503 is shed, any other 4xx/5xx an error, everything else a success.
+     *
+     * @return true if the latency belongs in the percentiles
+     */
+    boolean isSuccess(int status) {
+        if (status == 503) {
+            shed.incrementAndGet();
+            return false;
+        }
+        if (status >= 400) {
+            errors.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void error() {
+        errors.incrementAndGet();
+    }
+
+    void addAll(List<Long> workerLatenciesNanos) {
+        latenciesNanos.addAll(workerLatenciesNanos);
+    }
+
+    int count() {
+        return latenciesNanos.size();
+    }
+
+    int shed() {
+        return shed.get();
+    }
+
+    int errors() {
+        return errors.get();
+    }
+
+    double percentileMillis(int percentile) {
+        List<Long> sorted;
+        synchronized (latenciesNanos) {
+            sorted = new ArrayList<>(latenciesNanos);
+        }
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
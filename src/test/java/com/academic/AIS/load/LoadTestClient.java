@@ -0,0 +1,64 @@
+package com.academic.AIS.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JDK HttpClient against a running instance, with virtual threads so thousands of in-flight requests cost no
+ * more than the sockets they hold. Responses are matched with regexes rather than parsed: the harness only ever
+ * needs one or two fields.
+ */
+final class LoadTestClient {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Logs in through /api/auth/login and returns the access token.
+     */
+    String login(String username, String password) throws Exception {
+        String body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), "login failed for " + username + ": " + response.body());
+
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        assertTrue(matcher.find(), "no access token in login response");
+        return matcher.group(1);
+    }
+
+    HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws Exception {
+        return client.send(request, handler);
+    }
+}
@@ -0,0 +1,157 @@
+package com.academic.AIS.load;
+
+import com.academic.AIS.dto.request.BatchGradeEntry;
+import com.academic.AIS.dto.request.CreateStudentRequest;
+import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.model.Subject;
+import com.academic.AIS.model.SubjectAssignment;
+import com.academic.AIS.model.Teacher;
+import com.academic.AIS.service.AssignmentManagementService;
+import com.academic.AIS.service.GradeService;
+import com.academic.AIS.service.GroupManagementService;
+import com.academic.AIS.service.StudentManagementService;
+import com.academic.AIS.service.SubjectManagementService;
+import com.academic.AIS.service.TeacherManagementService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds the database the application is configured for (.env) through the regular services, so the data passes
+ * the same validation, password hashing and statistics maintenance as production writes. Writes a manifest of
+ * teachers, assignments and their students for {@link GradeReleaseLoadTest}:
+ * <pre>
+ * mvn test -Dtest=LoadTestSeeder -Dais.loadtest.seed=true [-Dais.loadtest.seed.teachers=40 ...]
+ * </pre>
+ * Sizes: ais.loadtest.seed.teachers (20), groups (20), subjects (10), students-per-group (25) and
+ * assignments-per-teacher (4). A share of the assignments (ais.loadtest.seed.graded-fraction, 0.5) is graded up
+ * front as history; the rest is left for the load test to release. Names carry ais.loadtest.run (default: derived
+ * from the clock), so seeding again adds a fresh set instead of colliding with the last one.
+ */
+@EnabledIfSystemProperty(named = "ais.loadtest.seed", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class LoadTestSeeder {
+
+    /** Every seeded user's password; registration uses the last name as the initial password. */
+    static final String PASSWORD = "Loadtest";
+
+    static final Path DEFAULT_MANIFEST = Path.of("target", "loadtest-manifest.tsv");
+
+    private static final String ACADEMIC_YEAR = "2024/2025";
+    private static final String SEMESTER = "Spring";
+
+    private final String run = System.getProperty("ais.loadtest.run",
+            Long.toString(System.currentTimeMillis() / 1000 % 1_000_000, 36));
+    private final int teachers = Integer.getInteger("ais.loadtest.seed.teachers", 20);
+    private final int groups = Integer.getInteger("ais.loadtest.seed.groups", 20);
+    private final int subjects = Integer.getInteger("ais.loadtest.seed.subjects", 10);
+    private final int studentsPerGroup = Integer.getInteger("ais.loadtest.seed.students-per-group", 25);
+    private final int assignmentsPerTeacher = Integer.getInteger("ais.loadtest.seed.assignments-per-teacher", 4);
+    private final double gradedFraction =
+            Double.parseDouble(System.getProperty("ais.loadtest.seed.graded-fraction", "0.5"));
+    private final Path manifest = Path.of(System.getProperty("ais.loadtest.manifest", DEFAULT_MANIFEST.toString()));
+
+    @Autowired
+    private GroupManagementService groupManagementService;
+
+    @Autowired
+    private SubjectManagementService subjectManagementService;
+
+    @Autowired
+    private TeacherManagementService teacherManagementService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private AssignmentManagementService assignmentManagementService;
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Test
+    void seed() throws IOException {
+        List<StudyGroup> groupRows = new ArrayList<>(groups);
+        List<List<Integer>> groupStudents = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            StudyGroup group = groupManagementService.createGroup("LT-" + run + "-" + g, 2024);
+            groupRows.add(group);
+
+            List<Integer> studentIds = new ArrayList<>(studentsPerGroup);
+            for (int s = 0; s < studentsPerGroup; s++) {
+                String firstName = "Lt" + run + "s" + (g * studentsPerGroup + s);
+                CreateStudentRequest request = new CreateStudentRequest();
+                request.setFirstName(firstName);
+                request.setLastName(PASSWORD);
+                request.setEmail(firstName.toLowerCase() + "@loadtest.invalid");
+                request.setGroupId(group.getGroupId());
+                studentIds.add(studentManagementService.createStudent(request).getStudentId());
+            }
+            groupStudents.add(studentIds);
+        }
+
+        List<Subject> subjectRows = new ArrayList<>(subjects);
+        for (int s = 0; s < subjects; s++) {
+            subjectRows.add(subjectManagementService.createSubject(
+                    "Load test subject " + s, "LT" + run.toUpperCase() + s, 5, null));
+        }
+
+        int totalAssignments = teachers * assignmentsPerTeacher;
+        int graded = (int) Math.round(totalAssignments * gradedFraction);
+        int assignmentIndex = 0;
+
+        Files.createDirectories(manifest.toAbsolutePath().getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(manifest))) {
+            out.println("# username\tassignmentId\tgraded\tstudentIds");
+            for (int t = 0; t < teachers; t++) {
+                String firstName = "Lt" + run + "t" + t;
+                Teacher teacher = teacherManagementService.createTeacher(
+                        firstName, PASSWORD, firstName.toLowerCase() + "@loadtest.invalid");
+
+                for (int a = 0; a < assignmentsPerTeacher; a++, assignmentIndex++) {
+                    int g = assignmentIndex % groups;
+                    SubjectAssignment assignment = assignmentManagementService.createAssignment(
+                            subjectRows.get((t + a) % subjects).getSubjectId(), teacher.getTeacherId(),
+                            groupRows.get(g).getGroupId(), ACADEMIC_YEAR, SEMESTER);
+
+                    List<Integer> studentIds = groupStudents.get(g);
+                    // Spread the graded assignments over all teachers rather than grading the first ones fully
+                    boolean isGraded = assignmentIndex * graded / totalAssignments
+                            != (assignmentIndex + 1) * graded / totalAssignments;
+                    if (isGraded) {
+                        gradeService.enterGrades(teacher.getTeacherId(), assignment.getAssignmentId(),
+                                gradeEntries(studentIds, assignmentIndex));
+                    }
+
+                    out.printf("%s\t%d\t%b\t%s%n", firstName.toLowerCase(), assignment.getAssignmentId(),
+                            isGraded, studentIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+                }
+            }
+        }
+
+        System.out.printf("%nSeeded run '%s': %d teachers, %d groups x %d students, %d subjects, "
+                        + "%d assignments (%d graded). Password for all users: %s. Manifest: %s%n",
+                run, teachers, groups, studentsPerGroup, subjects, totalAssignments, graded, PASSWORD,
+                manifest.toAbsolutePath());
+    }
+
+    /**
+     * Deterministic grade values over the whole 0-10 range, so the seeded distribution is not flat.
+     */
+    static List<BatchGradeEntry> gradeEntries(List<Integer> studentIds, int seed) {
+        List<BatchGradeEntry> entries = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            entries.add(new BatchGradeEntry(studentIds.get(i), (seed * 7 + i * 3) % 11, null));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,55 @@
+package com.academic.AIS.security;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AuthMetrics authMetrics = new AuthMetrics(registry, 0.0);
+
+    @Test
+    void recordFormLogin_AfterLoginStarted_RecordsTimerByOutcomeAndRole() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        authMetrics.loginStarted(request);
+
+        authMetrics.recordFormLogin(request, AuthMetrics.OUTCOME_SUCCESS, "TEACHER");
+
+        Timer timer = registry.find("ais.auth.login")
+                .tags("channel", "form", "outcome", "success", "role", "TEACHER")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void recordFormLogin_WithoutStart_RecordsNothing() {
+        authMetrics.recordFormLogin(new MockHttpServletRequest(), AuthMetrics.OUTCOME_FAILURE, null);
+
+        assertNull(registry.find("ais.auth.login").timer());
+    }
+
+    @Test
+    void recordLogin_UnknownRole_TaggedUnknown() {
+        authMetrics.recordLogin(AuthMetrics.CHANNEL_API, AuthMetrics.OUTCOME_FAILURE, null, Duration.ofMillis(80));
+
+        assertNotNull(registry.find("ais.auth.login").tags("role", "unknown", "channel", "api").timer());
+    }
+
+    @Test
+    void countRedirect_IncrementsCounterByTarget() {
+        authMetrics.countRedirect("STUDENT", "/student/dashboard");
+        authMetrics.countRedirect("STUDENT", "/student/dashboard");
+
+        assertEquals(2.0, registry.get("ais.auth.login.redirect")
+                .tags("role", "STUDENT", "target", "/student/dashboard")
+                .counter()
+                .count());
+    }
+}
@@ -0,0 +1,94 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.model.Teacher;
+import com.academic.AIS.model.User;
+import com.academic.AIS.service.TeacherManagementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentTeacherArgumentResolverTest {
+
+    @Mock
+    private TeacherManagementService teacherManagementService;
+
+    @InjectMocks
+    private CurrentTeacherArgumentResolver resolver;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolveArgument_TokenClaim_NoLookup() {
+        request.setAttribute("role", "TEACHER");
+        request.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, 7);
+
+        assertEquals(7, resolve());
+        verifyNoInteractions(teacherManagementService);
+    }
+
+    @Test
+    void resolveArgument_SessionAttribute_NoLookup() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("username", "jane");
+        session.setAttribute("role", "TEACHER");
+        session.setAttribute(UserProfile.PROFILE_ID_ATTRIBUTE, 7);
+        request.setSession(session);
+
+        assertEquals(7, resolve());
+        verifyNoInteractions(teacherManagementService);
+    }
+
+    @Test
+    void resolveArgument_OlderSession_LooksUpOnceAndStoresId() {
+        Teacher teacher = new Teacher(new User("jane", "hash", "TEACHER"), "Jane", "Smith", "jane@example.com");
+        teacher.setTeacherId(7);
+        MockHttpSession session = new MockHttpSession();
+        request.setSession(session);
+        when(teacherManagementService.getTeacherByUsername("jane")).thenReturn(Optional.of(teacher));
+
+        assertEquals(7, resolve());
+        assertEquals(7, resolve());
+
+        verify(teacherManagementService, times(1)).getTeacherByUsername("jane");
+        assertEquals("Jane Smith", session.getAttribute(UserProfile.DISPLAY_NAME_ATTRIBUTE));
+    }
+
+    @Test
+    void resolveArgument_NoTeacherProfile_ThrowsIllegalStateException() {
+        when(teacherManagementService.getTeacherByUsername("jane")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, this::resolve);
+    }
+
+    private Integer resolve() {
+        return resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+}
@@ -0,0 +1,113 @@
+package com.academic.AIS.security;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncryptedCookieSecurityContextRepositoryTest {
+
+    private static final String COOKIE = "AIS_SESSION";
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    private final AisUserDetails teacher =
+            new AisUserDetails("jane", "hash", "TEACHER", 3, 3, "Jane Smith|Ćwik");
+
+    @Test
+    void saveThenLoad_RestoresPrincipalAndProfileAttributes() {
+        EncryptedCookieSecurityContextRepository repository = repository(Clock.fixed(NOW, ZoneOffset.UTC));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repository.saveContext(authenticated(teacher), new MockHttpServletRequest(), response);
+
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(setCookie);
+        assertTrue(setCookie.contains("HttpOnly"));
+        assertFalse(setCookie.contains("hash"));
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(new Cookie(COOKIE, cookieValue(setCookie)));
+        SecurityContext loaded = repository.loadDeferredContext(next).get();
+
+        AisUserDetails principal = (AisUserDetails) loaded.getAuthentication().getPrincipal();
+        assertEquals("jane", principal.getUsername());
+        assertEquals("TEACHER", principal.getRole());
+        assertEquals(3, principal.getProfileId());
+        assertEquals("Jane Smith|Ćwik", principal.getDisplayName());
+        assertEquals(3, next.getAttribute(UserProfile.PROFILE_ID_ATTRIBUTE));
+        assertEquals("TEACHER", next.getAttribute("role"));
+        assertNull(next.getSession(false));
+    }
+
+    @Test
+    void decode_TamperedValue_ReturnsNull() {
+        EncryptedCookieSecurityContextRepository repository = repository(Clock.fixed(NOW, ZoneOffset.UTC));
+        char[] value = repository.encode(teacher).toCharArray();
+        value[value.length / 2] = value[value.length / 2] == 'A' ? 'B' : 'A';
+
+        assertNull(repository.decode(new String(value)));
+        assertNull(repository.decode("not-a-cookie"));
+    }
+
+    @Test
+    void decode_DifferentSecret_ReturnsNull() {
+        String value = repository(Clock.fixed(NOW, ZoneOffset.UTC)).encode(teacher);
+        EncryptedCookieSecurityContextRepository other = new EncryptedCookieSecurityContextRepository(
+                COOKIE, "another-secret", Duration.ofHours(8), true, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertNull(other.decode(value));
+    }
+
+    @Test
+    void decode_Expired_ReturnsNull() {
+        String value = repository(Clock.fixed(NOW, ZoneOffset.UTC)).encode(teacher);
+        EncryptedCookieSecurityContextRepository later =
+                repository(Clock.fixed(NOW.plus(Duration.ofHours(9)), ZoneOffset.UTC));
+
+        assertNull(later.decode(value));
+    }
+
+    @Test
+    void loadDeferredContext_NoCookie_IsGenerated() {
+        EncryptedCookieSecurityContextRepository repository = repository(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertTrue(repository.loadDeferredContext(new MockHttpServletRequest()).isGenerated());
+    }
+
+    @Test
+    void saveContext_EmptyContextWithCookie_ClearsCookie() {
+        EncryptedCookieSecurityContextRepository repository = repository(Clock.fixed(NOW, ZoneOffset.UTC));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE, repository.encode(teacher)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repository.saveContext(new SecurityContextImpl(), request, response);
+
+        assertTrue(response.getHeader(HttpHeaders.SET_COOKIE).contains("Max-Age=0"));
+    }
+
+    private static EncryptedCookieSecurityContextRepository repository(Clock clock) {
+        return new EncryptedCookieSecurityContextRepository(COOKIE, "test-secret", Duration.ofHours(8), true, clock);
+    }
+
+    private static SecurityContext authenticated(AisUserDetails principal) {
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+    }
+
+    private static String cookieValue(String setCookieHeader) {
+        String pair = setCookieHeader.split(";", 2)[0];
+        return pair.substring(pair.indexOf('=') + 1);
+    }
+}
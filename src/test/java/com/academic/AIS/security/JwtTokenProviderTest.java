@@ -0,0 +1,80 @@
+package com.academic.AIS.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-256-bits-long!";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 60_000, 120_000);
+    }
+
+    @Test
+    void parse_AccessToken_ReturnsAllClaims() {
+        String token = tokenProvider.generateToken("jane", "TEACHER", 7);
+
+        JwtClaims claims = tokenProvider.parse(token);
+
+        assertEquals("jane", claims.getUsername());
+        assertEquals("TEACHER", claims.getRole());
+        assertEquals(7, claims.getUserId());
+        assertNotNull(claims.getTokenId());
+        assertTrue(claims.isAccessToken());
+        assertTrue(claims.getExpiresAt().isAfter(claims.getIssuedAt()));
+    }
+
+    @Test
+    void parse_AccessTokenWithProfile_ReturnsProfileClaims() {
+        String token = tokenProvider.generateToken("jane", "TEACHER", 7, 7, "Jane Smith");
+
+        JwtClaims claims = tokenProvider.parse(token);
+
+        assertEquals(7, claims.getProfileId());
+        assertEquals("Jane Smith", claims.getDisplayName());
+    }
+
+    @Test
+    void parse_RefreshToken_IsNotAccessToken() {
+        JwtClaims claims = tokenProvider.parse(tokenProvider.generateRefreshToken("jane", "refresh-jti"));
+
+        assertEquals("jane", claims.getUsername());
+        assertEquals("refresh-jti", claims.getTokenId());
+        assertFalse(claims.isAccessToken());
+    }
+
+    @Test
+    void parse_TamperedToken_ThrowsJwtException() {
+        String token = tokenProvider.generateToken("jane", "TEACHER", 7);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> tokenProvider.parse(tampered));
+        assertFalse(tokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void parse_TokenFromOtherKey_ThrowsJwtException() {
+        JwtTokenProvider other = new JwtTokenProvider("another-secret-key-that-is-at-least-256-bits!!", 60_000, 0);
+
+        assertThrows(JwtException.class, () -> tokenProvider.parse(other.generateToken("jane", "TEACHER", 7)));
+    }
+
+    @Test
+    void parse_ExpiredToken_ThrowsJwtException() {
+        JwtTokenProvider expiring = new JwtTokenProvider(SECRET, -1_000, 0);
+
+        assertThrows(JwtException.class, () -> tokenProvider.parse(expiring.generateToken("jane", "TEACHER", 7)));
+    }
+
+    @Test
+    void validateToken_Blank_ReturnsFalse() {
+        assertFalse(tokenProvider.validateToken(""));
+    }
+}
@@ -0,0 +1,72 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LoginThrottle loginThrottle = new LoginThrottle(1, 10, 5);
+    private final LoginThrottleFilter filter =
+            new LoginThrottleFilter(loginThrottle, new AuthMetrics(registry, 0.0), "/login");
+
+    @Test
+    void doFilter_UsernameAlreadyInFlight_Returns503WithRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try (LoginThrottle.Permit permit = loginThrottle.acquire("john", "10.0.0.1")) {
+            filter.doFilter(loginRequest("john"), response,
+                    (request, chainResponse) -> fail("shed login must not reach authentication"));
+        }
+
+        assertEquals(503, response.getStatus());
+        assertEquals("5", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertRejectedRecorded();
+    }
+
+    @Test
+    void doFilter_VerifyPoolSaturated_Returns503WithRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(loginRequest("john"), response, (request, chainResponse) -> {
+            throw new ServletException(new ServiceBusyException("Password verification is busy", 3));
+        });
+
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertRejectedRecorded();
+        // The permit was released despite the failure
+        assertDoesNotThrow(() -> loginThrottle.acquire("john", "10.0.0.1").close());
+    }
+
+    @Test
+    void doFilter_OtherFailure_Propagates() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(loginRequest("john"),
+                new MockHttpServletResponse(),
+                (request, chainResponse) -> { throw new IllegalStateException("boom"); }));
+    }
+
+    private static MockHttpServletRequest loginRequest(String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setParameter("username", username);
+        return request;
+    }
+
+    private void assertRejectedRecorded() {
+        Timer timer = registry.find("ais.auth.login")
+                .tags("channel", "form", "outcome", "rejected")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
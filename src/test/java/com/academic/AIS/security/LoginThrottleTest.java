@@ -0,0 +1,37 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle(1, 2, 5);
+
+    @Test
+    void acquire_SameUsernameInFlight_ThrowsServiceBusyException() {
+        try (LoginThrottle.Permit permit = throttle.acquire("john", "10.0.0.1")) {
+            assertThrows(ServiceBusyException.class, () -> throttle.acquire("John", "10.0.0.2"));
+        }
+        assertDoesNotThrow(() -> throttle.acquire("john", "10.0.0.2").close());
+    }
+
+    @Test
+    void acquire_AddressAtLimit_ThrowsServiceBusyException() {
+        try (LoginThrottle.Permit first = throttle.acquire("a", "10.0.0.1");
+             LoginThrottle.Permit second = throttle.acquire("b", "10.0.0.1")) {
+            assertThrows(ServiceBusyException.class, () -> throttle.acquire("c", "10.0.0.1"));
+            assertDoesNotThrow(() -> throttle.acquire("c", "10.0.0.2").close());
+        }
+    }
+
+    @Test
+    void acquire_RejectedByUsername_ReleasesAddressSlot() {
+        try (LoginThrottle.Permit permit = throttle.acquire("john", "10.0.0.1")) {
+            assertThrows(ServiceBusyException.class, () -> throttle.acquire("john", "10.0.0.9"));
+            assertThrows(ServiceBusyException.class, () -> throttle.acquire("john", "10.0.0.9"));
+            assertDoesNotThrow(() -> throttle.acquire("jane", "10.0.0.9").close());
+        }
+    }
+}
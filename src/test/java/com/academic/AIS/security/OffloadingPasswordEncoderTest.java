@@ -0,0 +1,100 @@
+package com.academic.AIS.security;
+
+import com.academic.AIS.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OffloadingPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void matches_RunsOnVerifyPool() {
+        executor = executor(1, 1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, Duration.ofSeconds(5), 5);
+        String caller = Thread.currentThread().getName();
+        when(delegate.matches("secret", "hash")).thenAnswer(invocation ->
+                !Thread.currentThread().getName().equals(caller));
+
+        assertTrue(encoder.matches("secret", "hash"));
+    }
+
+    @Test
+    void matches_PoolSaturated_ThrowsServiceBusyException() throws Exception {
+        executor = executor(1, 1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, Duration.ofSeconds(5), 7);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+
+        try {
+            ServiceBusyException ex = assertThrows(ServiceBusyException.class,
+                    () -> encoder.matches("secret", "hash"));
+            assertEquals(7, ex.getRetryAfterSeconds());
+            verifyNoInteractions(delegate);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void matches_SlowVerification_ThrowsServiceBusyException() {
+        executor = executor(1, 1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, Duration.ofMillis(50), 5);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.matches("secret", "hash")).thenAnswer(invocation -> {
+            awaitQuietly(release);
+            return true;
+        });
+
+        try {
+            assertThrows(ServiceBusyException.class, () -> encoder.matches("secret", "hash"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void encodeAndUpgradeEncoding_DelegateDirectly() {
+        executor = executor(1, 1);
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, Duration.ofSeconds(5), 5);
+        when(delegate.encode("secret")).thenReturn("{bcrypt}hash");
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        assertEquals("{bcrypt}hash", encoder.encode("secret"));
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+
+    private static ThreadPoolTaskExecutor executor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.academic.AIS.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(3_600_000L);
+
+    @Test
+    void revoke_RejectsOnlyThatToken() {
+        Instant now = Instant.now();
+        JwtClaims revoked = new JwtClaims("jti-1", "john", "STUDENT", 1, now, now.plusSeconds(3600));
+        JwtClaims other = new JwtClaims("jti-2", "john", "STUDENT", 1, now, now.plusSeconds(3600));
+
+        revocationList.revoke(revoked);
+
+        assertTrue(revocationList.isRevoked(revoked));
+        assertFalse(revocationList.isRevoked(other));
+    }
+
+    @Test
+    void revokeUser_RejectsTokensIssuedBefore() {
+        Instant issued = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(10);
+        JwtClaims before = new JwtClaims("jti-1", "john", "STUDENT", 1, issued, issued.plusSeconds(3600));
+        JwtClaims otherUser = new JwtClaims("jti-2", "jane", "STUDENT", 2, issued, issued.plusSeconds(3600));
+        JwtClaims later = new JwtClaims("jti-3", "john", "STUDENT", 1,
+                issued.plusSeconds(60), issued.plusSeconds(3660));
+
+        revocationList.revokeUser("john");
+
+        assertTrue(revocationList.isRevoked(before));
+        assertFalse(revocationList.isRevoked(otherUser));
+        assertFalse(revocationList.isRevoked(later));
+    }
+
+    @Test
+    void revokeUser_SameSecondReLogin_StaysValid() {
+        revocationList.revokeUser("john");
+        // What a login right after the revocation gets: jjwt truncates iat to the second
+        Instant reissued = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        JwtClaims relogin = new JwtClaims("jti-1", "john", "STUDENT", 1, reissued, reissued.plusSeconds(3600));
+
+        assertFalse(revocationList.isRevoked(relogin));
+    }
+
+    @Test
+    void purgeExpired_DropsEntriesForExpiredTokens() {
+        Instant issued = Instant.now().minusSeconds(7200);
+        JwtClaims expired = new JwtClaims("jti-1", "john", "STUDENT", 1, issued, issued.plusSeconds(3600));
+
+        revocationList.revoke(expired);
+        revocationList.purgeExpired();
+
+        assertFalse(revocationList.isRevoked(expired));
+    }
+}
@@ -0,0 +1,103 @@
+package com.academic.AIS.security;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(tokenProvider, meterRegistry, true, 100);
+        claims = new JwtClaims("jti-1", "jane", "TEACHER", 7, Instant.now(), Instant.now().plusSeconds(60));
+    }
+
+    @Test
+    void resolve_SameTokenTwice_VerifiesOnce() {
+        when(tokenProvider.parse("token")).thenReturn(claims);
+
+        assertSame(claims, verifiedTokenCache.resolve("token"));
+        assertSame(claims, verifiedTokenCache.resolve("token"));
+
+        verify(tokenProvider, times(1)).parse("token");
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.METRIC_NAME).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void resolve_InvalidToken_PropagatesAndCachesNothing() {
+        when(tokenProvider.parse("bad")).thenThrow(new JwtException("bad signature"));
+
+        assertThrows(JwtException.class, () -> verifiedTokenCache.resolve("bad"));
+        assertThrows(JwtException.class, () -> verifiedTokenCache.resolve("bad"));
+
+        verify(tokenProvider, times(2)).parse("bad");
+    }
+
+    @Test
+    void resolve_ExpiredClaims_AreNotServedFromCache() {
+        JwtClaims expired = new JwtClaims("jti-1", "jane", "TEACHER", 7, Instant.now().minusSeconds(60), Instant.now());
+        when(tokenProvider.parse("token")).thenReturn(expired);
+
+        verifiedTokenCache.resolve("token");
+        verifiedTokenCache.resolve("token");
+
+        verify(tokenProvider, times(2)).parse("token");
+    }
+
+    @Test
+    void invalidate_ForcesReverification() {
+        when(tokenProvider.parse("token")).thenReturn(claims);
+
+        verifiedTokenCache.resolve("token");
+        verifiedTokenCache.invalidate("token");
+        verifiedTokenCache.resolve("token");
+
+        verify(tokenProvider, times(2)).parse("token");
+    }
+
+    @Test
+    void invalidateUser_DropsOnlyThatUsersTokens() {
+        JwtClaims other = new JwtClaims("jti-2", "john", "TEACHER", 8, Instant.now(), Instant.now().plusSeconds(60));
+        when(tokenProvider.parse("jane-token")).thenReturn(claims);
+        when(tokenProvider.parse("john-token")).thenReturn(other);
+
+        verifiedTokenCache.resolve("jane-token");
+        verifiedTokenCache.resolve("john-token");
+        verifiedTokenCache.invalidateUser("jane");
+        verifiedTokenCache.resolve("jane-token");
+        verifiedTokenCache.resolve("john-token");
+
+        verify(tokenProvider, times(2)).parse("jane-token");
+        verify(tokenProvider, times(1)).parse("john-token");
+    }
+
+    @Test
+    void resolve_Disabled_AlwaysVerifies() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(tokenProvider, meterRegistry, false, 100);
+        when(tokenProvider.parse("token")).thenReturn(claims);
+
+        disabled.resolve("token");
+        disabled.resolve("token");
+
+        verify(tokenProvider, times(2)).parse("token");
+    }
+}
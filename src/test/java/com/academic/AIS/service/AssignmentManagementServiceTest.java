@@ -3,11 +3,13 @@ package com.academic.AIS.service;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.Grade;
 import com.academic.AIS.model.StudyGroup;
 import com.academic.AIS.model.Subject;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.model.Teacher;
 import com.academic.AIS.model.User;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import com.academic.AIS.repository.SubjectRepository;
@@ -15,6 +17,7 @@ import com.academic.AIS.repository.TeacherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,6 +42,8 @@ class AssignmentManagementServiceTest {
     private TeacherRepository teacherRepository;
     @Mock
     private StudyGroupRepository studyGroupRepository;
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
 
     @InjectMocks
     private AssignmentManagementService assignmentManagementService;
@@ -189,6 +194,51 @@ class AssignmentManagementServiceTest {
         verify(assignmentRepository, never()).deleteById(anyInt());
     }
 
+    @Test
+    void deleteAssignment_WithGrades_SubtractsGradesBeforeDelete() {
+        testAssignment.getGrades().add(new Grade());
+        when(assignmentRepository.existsById(1)).thenReturn(true);
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+
+        assignmentManagementService.deleteAssignment(1);
+
+        InOrder inOrder = inOrder(gradeStatisticsRepository, assignmentRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfAssignment(1);
+        inOrder.verify(assignmentRepository).deleteById(1);
+    }
+
+    @Test
+    void deleteAssignment_WithoutGrades_SkipsStatisticsUpdate() {
+        when(assignmentRepository.existsById(1)).thenReturn(true);
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+
+        assignmentManagementService.deleteAssignment(1);
+
+        verify(assignmentRepository).deleteById(1);
+        verifyNoInteractions(gradeStatisticsRepository);
+    }
+
+    @Test
+    void updateAssignment_TeacherChanged_MovesGradeStatistics() {
+        testSubject.setSubjectId(1);
+        testTeacher.setTeacherId(1);
+        testGroup.setGroupId(1);
+        Teacher otherTeacher = new Teacher(new User("john", "password", "TEACHER"), "John", "Doe", "john@example.com");
+        otherTeacher.setTeacherId(2);
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+        when(subjectRepository.findById(1)).thenReturn(Optional.of(testSubject));
+        when(teacherRepository.findById(2)).thenReturn(Optional.of(otherTeacher));
+        when(studyGroupRepository.findById(1)).thenReturn(Optional.of(testGroup));
+        when(assignmentRepository.save(testAssignment)).thenReturn(testAssignment);
+
+        assignmentManagementService.updateAssignment(1, 1, 2, 1, "2024/2025", "Fall");
+
+        InOrder inOrder = inOrder(gradeStatisticsRepository, assignmentRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfAssignment(1);
+        inOrder.verify(assignmentRepository).save(testAssignment);
+        inOrder.verify(gradeStatisticsRepository).addGradesOfAssignment(1);
+    }
+
     @Test
     void getAssignmentById_AssignmentNotFound_ThrowsResourceNotFoundException() {
         when(assignmentRepository.findById(999)).thenReturn(Optional.empty());
@@ -1,5 +1,6 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.UserIdentity;
 import com.academic.AIS.dto.request.LoginRequest;
 import com.academic.AIS.dto.response.AuthResponse;
 import com.academic.AIS.exception.DuplicateResourceException;
@@ -7,7 +8,11 @@ import com.academic.AIS.exception.UnauthorizedException;
 import com.academic.AIS.exception.ValidationException;
 import com.academic.AIS.model.*;
 import com.academic.AIS.repository.*;
+import com.academic.AIS.security.JwtClaims;
 import com.academic.AIS.security.JwtTokenProvider;
+import com.academic.AIS.security.TokenRevocationList;
+import com.academic.AIS.security.VerifiedTokenCache;
+import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,58 +38,132 @@ class AuthenticationServiceTest {
     @Mock
     private TeacherRepository teacherRepository;
     @Mock
-    private AdministratorRepository administratorRepository;
-    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
 
     @InjectMocks
     private AuthenticationService authenticationService;
 
     private User testUser;
-    private Student testStudent;
+    private UserIdentity testIdentity;
 
     @BeforeEach
     void setUp() {
         testUser = new User("john", "hashedPassword", "STUDENT");
-        testStudent = new Student(testUser, "John", "Doe", "john@example.com");
+        testIdentity = new UserIdentity(1, "john", "hashedPassword", "STUDENT", 1, "John Doe");
     }
 
     @Test
     void authenticate_ValidCredentials_ReturnsAuthResponse() {
         LoginRequest loginRequest = new LoginRequest("john", "password123");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(testUser));
+        when(userRepository.findIdentityByUsername("john")).thenReturn(Optional.of(testIdentity));
         when(passwordEncoder.matches("password123", "hashedPassword")).thenReturn(true);
-        when(studentRepository.findByUsername("john")).thenReturn(Optional.of(testStudent));
-        when(jwtTokenProvider.generateToken(anyString(), anyString(), any())).thenReturn("access-token");
-        when(jwtTokenProvider.generateRefreshToken("john")).thenReturn("refresh-token");
+        when(userRepository.getReferenceById(1)).thenReturn(testUser);
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), any(), any(), anyString()))
+                .thenReturn("access-token");
+        when(refreshTokenService.issue(testUser, "john")).thenReturn("refresh-token");
 
         AuthResponse response = authenticationService.authenticate(loginRequest);
 
         assertNotNull(response);
         assertEquals("access-token", response.getAccessToken());
-        verify(userRepository).findByUsername("john");
+        assertEquals("refresh-token", response.getRefreshToken());
+        assertEquals("John Doe", response.getDisplayName());
+        verify(jwtTokenProvider).generateToken("john", "STUDENT", 1, 1, "John Doe");
+        verify(userRepository, never()).findByUsername(anyString());
+        verifyNoInteractions(studentRepository, teacherRepository);
+    }
+
+    @Test
+    void authenticate_OutdatedHash_RehashesPassword() {
+        LoginRequest loginRequest = new LoginRequest("john", "password123");
+        when(userRepository.findIdentityByUsername("john")).thenReturn(Optional.of(testIdentity));
+        when(passwordEncoder.matches("password123", "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("{bcrypt}newHash");
+        when(userRepository.getReferenceById(1)).thenReturn(testUser);
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), any(), any(), anyString()))
+                .thenReturn("access-token");
+        when(refreshTokenService.issue(testUser, "john")).thenReturn("refresh-token");
+
+        authenticationService.authenticate(loginRequest);
+
+        verify(userRepository).updatePassword("john", "{bcrypt}newHash");
+    }
+
+    @Test
+    void refresh_ValidToken_ReturnsRotatedTokens() {
+        when(refreshTokenService.rotate("old-refresh"))
+                .thenReturn(new RefreshTokenService.IssuedRefreshToken("new-refresh", testUser));
+        when(userRepository.findIdentityByUsername("john")).thenReturn(Optional.of(testIdentity));
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), any(), any(), anyString()))
+                .thenReturn("access-token");
+
+        AuthResponse response = authenticationService.refresh("old-refresh");
+
+        assertEquals("access-token", response.getAccessToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void refresh_MissingToken_ThrowsUnauthorizedException() {
+        assertThrows(UnauthorizedException.class, () -> authenticationService.refresh(" "));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void logout_RevokesAccessAndRefreshTokens() {
+        JwtClaims claims = new JwtClaims("jti-1", "john", "STUDENT", 1,
+                Instant.now(), Instant.now().plusSeconds(3600));
+        when(jwtTokenProvider.parse("access-token")).thenReturn(claims);
+
+        authenticationService.logout("access-token", "refresh-token");
+
+        verify(tokenRevocationList).revoke(claims);
+        verify(verifiedTokenCache).invalidate("access-token");
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    void logout_WithoutRefreshToken_OnlyRevokesAccessToken() {
+        when(jwtTokenProvider.parse("access-token")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        authenticationService.logout("access-token", null);
+
+        verifyNoInteractions(tokenRevocationList, refreshTokenService);
+        verify(verifiedTokenCache).invalidate("access-token");
     }
 
     @Test
     void authenticate_InvalidUsername_ThrowsUnauthorizedException() {
         LoginRequest loginRequest = new LoginRequest("nonexistent", "password123");
-        when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+        when(userRepository.findIdentityByUsername("nonexistent")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("userNotFoundPassword")).thenReturn("{bcrypt}dummyHash");
 
         UnauthorizedException exception = assertThrows(
                 UnauthorizedException.class,
                 () -> authenticationService.authenticate(loginRequest)
         );
+        assertThrows(UnauthorizedException.class, () -> authenticationService.authenticate(loginRequest));
 
         assertEquals("Invalid credentials", exception.getMessage());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordEncoder, times(2)).matches("password123", "{bcrypt}dummyHash");
+        verify(passwordEncoder, times(1)).encode("userNotFoundPassword");
+        verify(refreshTokenService, never()).issue(any(), anyString());
     }
 
     @Test
     void authenticate_InvalidPassword_ThrowsUnauthorizedException() {
         LoginRequest loginRequest = new LoginRequest("john", "wrongPassword");
-        when(userRepository.findByUsername("john")).thenReturn(Optional.of(testUser));
+        when(userRepository.findIdentityByUsername("john")).thenReturn(Optional.of(testIdentity));
         when(passwordEncoder.matches("wrongPassword", "hashedPassword")).thenReturn(false);
 
         UnauthorizedException exception = assertThrows(
@@ -0,0 +1,100 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.dto.projection.GradeExportRow;
+import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.repository.GradeRepository;
+import com.academic.AIS.service.GradeExportService.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GradeExportServiceTest {
+
+    @Mock
+    private GradeRepository gradeRepository;
+
+    private GradeExportService gradeExportService;
+
+    private GradeExportRow plainRow;
+    private GradeExportRow quotedRow;
+
+    @BeforeEach
+    void setUp() {
+        gradeExportService = new GradeExportService(gradeRepository, JsonMapper.builder().build());
+        plainRow = new GradeExportRow(1, LocalDate.of(2024, 10, 1), 9, 1, "John", "Doe", "CS-101",
+                "MATH101", "Mathematics", "Jane", "Smith", "2024-2025", "Fall", null);
+        quotedRow = new GradeExportRow(2, LocalDate.of(2024, 10, 2), 5, 2, "Ann", "Lee", "CS-101",
+                "MATH101", "Mathematics", "Jane", "Smith", "2024-2025", "Fall", "Late, \"partial\"\nwork");
+    }
+
+    @Test
+    void exportGrades_Csv_WritesHeaderAndEscapedRows() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(gradeRepository.streamForExport(null, null))
+                .thenReturn(Stream.of(plainRow, quotedRow).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = gradeExportService.exportGrades(ExportFormat.CSV, null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, count);
+        assertTrue(lines[0].startsWith("grade_id,grade_date,grade_value"));
+        assertEquals("1,2024-10-01,9,1,John,Doe,CS-101,MATH101,Mathematics,Jane,Smith,2024-2025,Fall,", lines[1]);
+        assertTrue(lines[2].endsWith(",Fall,\"Late, \"\"partial\"\"\nwork\""));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportGrades_Ndjson_WritesOneObjectPerLine() throws IOException {
+        when(gradeRepository.streamForExport("2024-2025", "Fall")).thenReturn(Stream.of(plainRow, quotedRow));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = gradeExportService.exportGrades(ExportFormat.NDJSON, "2024-2025", "Fall", out);
+
+        String text = out.toString(StandardCharsets.UTF_8);
+        String[] lines = text.split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(text.endsWith("}\n"));
+        assertTrue(lines[0].startsWith("{\"gradeId\":1,\"gradeDate\":\"2024-10-01\",\"gradeValue\":9,"));
+        assertTrue(lines[0].endsWith("\"comments\":null}"));
+        assertTrue(lines[1].endsWith("\"comments\":\"Late, \\\"partial\\\"\\nwork\"}"));
+    }
+
+    @Test
+    void exportGrades_NoGrades_WritesOnlyCsvHeader() throws IOException {
+        when(gradeRepository.streamForExport(null, null)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = gradeExportService.exportGrades(ExportFormat.CSV, null, null, out);
+
+        assertEquals(0, count);
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\r\n").length);
+    }
+
+    @Test
+    void parseFormat_IsCaseInsensitive() {
+        assertEquals(ExportFormat.CSV, ExportFormat.parse("CSV"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.parse("ndjson"));
+    }
+
+    @Test
+    void parseFormat_UnknownFormat_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> ExportFormat.parse("xlsx"));
+        assertThrows(ValidationException.class, () -> ExportFormat.parse(null));
+    }
+}
@@ -1,11 +1,17 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.pagination.CursorPage;
+import com.academic.AIS.dto.pagination.KeysetCursor;
+import com.academic.AIS.dto.request.BatchGradeEntry;
+import com.academic.AIS.dto.response.BatchGradeResult;
+import com.academic.AIS.dto.response.GradeResponse;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.UnauthorizedException;
 import com.academic.AIS.exception.ValidationException;
 import com.academic.AIS.model.*;
 import com.academic.AIS.repository.GradeRepository;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,10 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +45,9 @@ class GradeServiceTest {
     @Mock
     private SubjectAssignmentRepository assignmentRepository;
 
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private GradeService gradeService;
 
@@ -61,6 +73,7 @@ class GradeServiceTest {
         setGroupId(testGroup, 1);
 
         testSubject = new Subject("Mathematics", "MATH101", 5, "Basic Math");
+        testSubject.setSubjectId(1);
 
         testStudent.setGroup(testGroup);
 
@@ -118,6 +131,60 @@ class GradeServiceTest {
         verify(assignmentRepository).findById(1);
         verify(gradeRepository).existsByStudentAndAssignment(1, 1);
         verify(gradeRepository).save(any(Grade.class));
+        verify(gradeStatisticsRepository).applyDelta(1, 1, 1, 1, 1L, 8L, 1L);
+    }
+
+    @Test
+    void enterGrades_MixedRows_CreatesValidRowsAndRejectsTheRest() {
+        List<BatchGradeEntry> entries = List.of(
+                new BatchGradeEntry(1, 8, "Good work"),
+                new BatchGradeEntry(2, 7, null),
+                new BatchGradeEntry(3, 6, null),
+                new BatchGradeEntry(1, 9, null),
+                new BatchGradeEntry(4, 11, null));
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+        when(studentRepository.findIdsInGroup(eq(1), anyCollection())).thenReturn(List.of(1, 3, 4));
+        when(gradeRepository.findGradedStudentIds(eq(1), anyCollection())).thenReturn(List.of(3));
+        when(studentRepository.getReferenceById(1)).thenReturn(testStudent);
+        when(gradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BatchGradeResult> results = gradeService.enterGrades(1, 1, entries);
+
+        assertEquals(5, results.size());
+        assertEquals(BatchGradeResult.CREATED, results.get(0).getStatus());
+        assertEquals("Student is not in the group for this subject", results.get(1).getMessage());
+        assertTrue(results.get(2).getMessage().contains("already exists"));
+        assertTrue(results.get(3).getMessage().contains("more than once"));
+        assertEquals("Grade must be between 0 and 10", results.get(4).getMessage());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        verify(gradeRepository).saveAll(argThat(grades -> ((List<?>) grades).size() == 1));
+        verify(gradeStatisticsRepository).addAssignmentGrades(1, Set.of(1));
+        verify(studentRepository, never()).findById(anyInt());
+        verify(gradeRepository, never()).existsByStudentAndAssignment(anyInt(), anyInt());
+    }
+
+    @Test
+    void enterGrades_AllRowsRejected_InsertsNothing() {
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+        when(studentRepository.findIdsInGroup(eq(1), anyCollection())).thenReturn(List.of());
+        when(gradeRepository.findGradedStudentIds(eq(1), anyCollection())).thenReturn(List.of());
+
+        List<BatchGradeResult> results = gradeService.enterGrades(1, 1, List.of(new BatchGradeEntry(2, 7, null)));
+
+        assertEquals(BatchGradeResult.REJECTED, results.get(0).getStatus());
+        verify(gradeRepository, never()).saveAll(anyList());
+        verifyNoInteractions(gradeStatisticsRepository);
+    }
+
+    @Test
+    void enterGrades_WrongTeacher_ThrowsUnauthorizedException() {
+        when(assignmentRepository.findById(1)).thenReturn(Optional.of(testAssignment));
+
+        assertThrows(UnauthorizedException.class,
+                () -> gradeService.enterGrades(999, 1, List.of(new BatchGradeEntry(1, 8, null))));
+        verifyNoInteractions(studentRepository, gradeRepository, gradeStatisticsRepository);
     }
 
     @Test
@@ -251,6 +318,27 @@ class GradeServiceTest {
         assertNotNull(result);
         verify(gradeRepository).findById(1);
         verify(gradeRepository).save(any(Grade.class));
+        verify(gradeStatisticsRepository).applyDelta(1, 1, 1, 1, 0L, 1L, 0L);
+    }
+
+    @Test
+    void updateGrade_CrossesPassingThreshold_AdjustsPassingCount() {
+        when(gradeRepository.findById(1)).thenReturn(Optional.of(testGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(testGrade);
+
+        gradeService.updateGrade(1, 1, 3, "Needs work");
+
+        verify(gradeStatisticsRepository).applyDelta(1, 1, 1, 1, 0L, -5L, -1L);
+    }
+
+    @Test
+    void updateGrade_SameValue_SkipsStatisticsUpdate() {
+        when(gradeRepository.findById(1)).thenReturn(Optional.of(testGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(testGrade);
+
+        gradeService.updateGrade(1, 1, 8, "Comment only");
+
+        verifyNoInteractions(gradeStatisticsRepository);
     }
 
     @Test
@@ -302,6 +390,7 @@ class GradeServiceTest {
         assertNotNull(result);
         verify(gradeRepository).findById(1);
         verify(gradeRepository).deleteById(1);
+        verify(gradeStatisticsRepository).applyDelta(1, 1, 1, 1, -1L, -8L, -1L);
     }
 
     @Test
@@ -329,6 +418,7 @@ class GradeServiceTest {
 
         assertEquals("You can only delete grades you assigned", exception.getMessage());
         verify(gradeRepository, never()).deleteById(anyInt());
+        verifyNoInteractions(gradeStatisticsRepository);
     }
 
     @Test
@@ -343,6 +433,54 @@ class GradeServiceTest {
         verify(gradeRepository).findByTeacher_TeacherId(1);
     }
 
+    @Test
+    void getTeacherGradePage_FirstPageDescending_UsesProjectionQuery() {
+        GradeResponse newest = new GradeResponse(7, 1, "John", "Doe", 1, "Mathematics", "MATH101",
+                8, LocalDate.now(), "Good work", "Jane", "Smith");
+        GradeResponse older = new GradeResponse(5, 1, "John", "Doe", 1, "Mathematics", "MATH101",
+                6, LocalDate.now(), null, "Jane", "Smith");
+        when(gradeRepository.findResponsesByTeacherDescending(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(newest, older));
+
+        CursorPage<GradeResponse> result = gradeService.getTeacherGradePage(1, null, 1, "desc");
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("John Doe", result.getItems().get(0).getStudentName());
+        assertEquals("Jane Smith", result.getItems().get(0).getTeacherName());
+        assertEquals("Good", result.getItems().get(0).getGradeLevel());
+        assertEquals(KeysetCursor.encode(7), result.getNextCursor());
+        verify(gradeRepository, never()).findByTeacher_TeacherId(anyInt());
+        verify(gradeRepository, never()).findResponsesByTeacherBefore(anyInt(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void getTeacherGradePage_WithCursorAscending_SeeksAfterCursor() {
+        when(gradeRepository.findResponsesByTeacherAfter(eq(1), eq(7), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        CursorPage<GradeResponse> result = gradeService.getTeacherGradePage(1, KeysetCursor.encode(7), null, "asc");
+
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(gradeRepository, never()).findResponsesByTeacher(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    void getTeacherGradePage_InvalidSort_ThrowsValidationException() {
+        assertThrows(ValidationException.class,
+                () -> gradeService.getTeacherGradePage(1, null, null, "sideways"));
+        verifyNoInteractions(gradeRepository);
+    }
+
+    @Test
+    void getTeacherGrade_OtherTeachersGrade_ReturnsEmpty() {
+        when(gradeRepository.findByGradeIdAndTeacher(1, 999)).thenReturn(Optional.empty());
+
+        Optional<Grade> result = gradeService.getTeacherGrade(1, 999);
+
+        assertTrue(result.isEmpty());
+    }
+
     @Test
     void getGradesForTeacherSubject_ReturnsGradeList() {
         List<Grade> grades = Arrays.asList(testGrade);
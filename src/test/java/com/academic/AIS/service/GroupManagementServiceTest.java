@@ -1,13 +1,18 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.GroupSummary;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.repository.GradeStatisticsRepository;
+import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +31,12 @@ class GroupManagementServiceTest {
     @Mock
     private StudyGroupRepository studyGroupRepository;
 
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private GroupManagementService groupManagementService;
 
@@ -219,15 +230,18 @@ class GroupManagementServiceTest {
     void deleteGroup_ValidId_DeletesGroup() {
 
         when(studyGroupRepository.existsById(1)).thenReturn(true);
-        when(studyGroupRepository.findById(1)).thenReturn(Optional.of(testGroup));
+        when(studentRepository.countByGroup_GroupId(1)).thenReturn(0L);
         doNothing().when(studyGroupRepository).deleteById(1);
 
 
         groupManagementService.deleteGroup(1);
 
 
-        verify(studyGroupRepository).existsById(1);
-        verify(studyGroupRepository).deleteById(1);
+        InOrder inOrder = inOrder(gradeStatisticsRepository, studyGroupRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfGroup(1);
+        inOrder.verify(gradeStatisticsRepository).deleteStudentScopesOfGroup(1);
+        inOrder.verify(gradeStatisticsRepository).deleteScope(GradeStatistics.SCOPE_GROUP, 1);
+        inOrder.verify(studyGroupRepository).deleteById(1);
     }
 
     @Test
@@ -250,16 +264,21 @@ class GroupManagementServiceTest {
     @Test
     void getAllGroups_ReturnsGroupList() {
 
-        List<StudyGroup> groups = Arrays.asList(testGroup, new StudyGroup("CS-102", 2024));
-        when(studyGroupRepository.findAll()).thenReturn(groups);
+        List<GroupSummary> groups = Arrays.asList(
+                new GroupSummary(1, "CS-101", 2024, 25L),
+                new GroupSummary(2, "CS-102", 2024, null)
+        );
+        when(studyGroupRepository.findAllSummaries()).thenReturn(groups);
 
 
-        List<StudyGroup> result = groupManagementService.getAllGroups();
+        List<GroupSummary> result = groupManagementService.getAllGroups();
 
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(studyGroupRepository).findAll();
+        assertEquals(25L, result.get(0).getStudentCount());
+        assertEquals(0L, result.get(1).getStudentCount());
+        verify(studyGroupRepository).findAllSummaries();
     }
 
     @Test
@@ -323,14 +342,15 @@ class GroupManagementServiceTest {
     @Test
     void getStudentCount_ValidGroup_ReturnsCount() {
 
-        when(studyGroupRepository.findById(1)).thenReturn(Optional.of(testGroup));
+        when(studyGroupRepository.existsById(1)).thenReturn(true);
+        when(studentRepository.countByGroup_GroupId(1)).thenReturn(25L);
 
 
-        int result = groupManagementService.getStudentCount(1);
+        long result = groupManagementService.getStudentCount(1);
 
 
-        assertEquals(0, result);
-        verify(studyGroupRepository).findById(1);
+        assertEquals(25L, result);
+        verify(studyGroupRepository, never()).findById(anyInt());
     }
 
     @Test
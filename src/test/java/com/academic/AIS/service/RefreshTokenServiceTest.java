@@ -0,0 +1,156 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.exception.UnauthorizedException;
+import com.academic.AIS.model.RefreshToken;
+import com.academic.AIS.model.User;
+import com.academic.AIS.repository.RefreshTokenRepository;
+import com.academic.AIS.security.JwtClaims;
+import com.academic.AIS.security.JwtTokenProvider;
+import com.academic.AIS.security.TokenRevocationList;
+import com.academic.AIS.security.VerifiedTokenCache;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("john", "hashedPassword", "STUDENT");
+    }
+
+    @Test
+    void issue_StoresTokenInNewFamily() {
+        when(jwtTokenProvider.getRefreshExpiration()).thenReturn(86_400_000L);
+        when(jwtTokenProvider.generateRefreshToken(eq("john"), anyString())).thenReturn("refresh-token");
+
+        String token = refreshTokenService.issue(testUser, "john");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("refresh-token", token);
+        assertSame(testUser, saved.getValue().getUser());
+        assertNotEquals(saved.getValue().getJti(), saved.getValue().getFamilyId());
+        verify(jwtTokenProvider).generateRefreshToken("john", saved.getValue().getJti());
+    }
+
+    @Test
+    void rotate_ActiveToken_IssuesNextTokenInSameFamily() {
+        RefreshToken stored = storedToken("jti-1", "family-1");
+        when(jwtTokenProvider.parse("old-refresh")).thenReturn(refreshClaims("jti-1"));
+        when(refreshTokenRepository.findByJtiWithUser("jti-1")).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq("jti-1"), any(Instant.class))).thenReturn(1);
+        when(jwtTokenProvider.getRefreshExpiration()).thenReturn(86_400_000L);
+        when(jwtTokenProvider.generateRefreshToken(eq("john"), anyString())).thenReturn("new-refresh");
+
+        RefreshTokenService.IssuedRefreshToken rotated = refreshTokenService.rotate("old-refresh");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("new-refresh", rotated.getToken());
+        assertSame(testUser, rotated.getUser());
+        assertEquals("family-1", saved.getValue().getFamilyId());
+        verifyNoInteractions(tokenRevocationList, verifiedTokenCache);
+    }
+
+    @Test
+    void rotate_ReusedToken_RevokesFamilyAndUserTokens() {
+        RefreshToken stored = storedToken("jti-1", "family-1");
+        stored.setRevokedAt(Instant.now().minusSeconds(60));
+        when(jwtTokenProvider.parse("old-refresh")).thenReturn(refreshClaims("jti-1"));
+        when(refreshTokenRepository.findByJtiWithUser("jti-1")).thenReturn(Optional.of(stored));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("old-refresh"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(Instant.class));
+        verify(tokenRevocationList).revokeUser("john");
+        verify(verifiedTokenCache).invalidateUser("john");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_ConcurrentUse_LosingRequestTreatedAsReuse() {
+        RefreshToken stored = storedToken("jti-1", "family-1");
+        when(jwtTokenProvider.parse("old-refresh")).thenReturn(refreshClaims("jti-1"));
+        when(refreshTokenRepository.findByJtiWithUser("jti-1")).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revokeIfActive(eq("jti-1"), any(Instant.class))).thenReturn(0);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("old-refresh"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(Instant.class));
+        verify(tokenRevocationList).revokeUser("john");
+    }
+
+    @Test
+    void rotate_AccessToken_ThrowsUnauthorizedException() {
+        JwtClaims accessClaims = new JwtClaims("jti-1", "john", "STUDENT", 1,
+                Instant.now(), Instant.now().plusSeconds(3600));
+        when(jwtTokenProvider.parse("access-token")).thenReturn(accessClaims);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("access-token"));
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void rotate_InvalidSignature_ThrowsUnauthorizedException() {
+        when(jwtTokenProvider.parse("garbage")).thenThrow(new MalformedJwtException("bad"));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("garbage"));
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void rotate_UnknownToken_ThrowsUnauthorizedException() {
+        when(jwtTokenProvider.parse("old-refresh")).thenReturn(refreshClaims("jti-1"));
+        when(refreshTokenRepository.findByJtiWithUser("jti-1")).thenReturn(Optional.empty());
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("old-refresh"));
+        verify(refreshTokenRepository, never()).revokeIfActive(anyString(), any());
+    }
+
+    @Test
+    void revoke_RevokesWholeFamily() {
+        when(jwtTokenProvider.parse("refresh-token")).thenReturn(refreshClaims("jti-1"));
+        when(refreshTokenRepository.findById("jti-1")).thenReturn(Optional.of(storedToken("jti-1", "family-1")));
+
+        refreshTokenService.revoke("refresh-token");
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any(Instant.class));
+    }
+
+    private RefreshToken storedToken(String jti, String familyId) {
+        Instant now = Instant.now();
+        return new RefreshToken(jti, familyId, testUser, now.minusSeconds(60), now.plusSeconds(86_400));
+    }
+
+    private JwtClaims refreshClaims(String jti) {
+        return new JwtClaims(jti, "john", null, null, Instant.now(), Instant.now().plusSeconds(86_400));
+    }
+}
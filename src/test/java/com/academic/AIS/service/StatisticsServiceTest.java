@@ -1,5 +1,6 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.GradeValueCount;
 import com.academic.AIS.model.*;
 import com.academic.AIS.repository.*;
 import com.academic.AIS.service.StatisticsService.*;
@@ -11,10 +12,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +43,9 @@ class StatisticsServiceTest {
     @Mock
     private SubjectAssignmentRepository assignmentRepository;
 
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private StatisticsService statisticsService;
 
@@ -167,16 +175,10 @@ class StatisticsServiceTest {
     @Test
     void getTeacherStatistics_ReturnsCorrectStatistics() {
         // Arrange
-        List<SubjectAssignment> assignments = Arrays.asList(testAssignment, testAssignment);
-        List<Grade> grades = Arrays.asList(
-                new Grade(testStudent, testAssignment, 8, "Good"),
-                new Grade(testStudent, testAssignment, 9, "Excellent"),
-                new Grade(testStudent, testAssignment, 7, "Good")
-        );
-
-        when(assignmentRepository.findByTeacher_TeacherId(1)).thenReturn(assignments);
-        when(gradeRepository.countByTeacher(1)).thenReturn(3L);
-        when(gradeRepository.findByTeacher_TeacherId(1)).thenReturn(grades);
+        when(assignmentRepository.countByTeacher_TeacherId(1)).thenReturn(2L);
+        when(gradeRepository.countDistinctStudentsByTeacher(1)).thenReturn(1L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_TEACHER, 1))
+                .thenReturn(Optional.of(new GradeStatistics(GradeStatistics.SCOPE_TEACHER, 1, 3, 24, 3)));
 
         // Act
         TeacherStatistics result = statisticsService.getTeacherStatistics(1);
@@ -188,17 +190,40 @@ class StatisticsServiceTest {
         assertEquals(3L, result.getTotalGrades());
         assertEquals(8.0, result.getAverageGrade(), 0.01);
 
-        verify(assignmentRepository).findByTeacher_TeacherId(1);
-        verify(gradeRepository).countByTeacher(1);
-        verify(gradeRepository, times(2)).findByTeacher_TeacherId(1);
+        verify(assignmentRepository).countByTeacher_TeacherId(1);
+        verify(gradeRepository).countDistinctStudentsByTeacher(1);
+        verify(gradeRepository, never()).findByTeacher_TeacherId(anyInt());
+    }
+
+    @Test
+    void countStudentsInGroups_CountsInDatabase() {
+        // Arrange
+        when(studentRepository.countByGroupIds(Set.of(1, 2))).thenReturn(55L);
+
+        // Act
+        long result = statisticsService.countStudentsInGroups(Set.of(1, 2));
+
+        // Assert
+        assertEquals(55L, result);
+    }
+
+    @Test
+    void countStudentsInGroups_NoGroups_SkipsQuery() {
+        // Act
+        long result = statisticsService.countStudentsInGroups(Collections.emptySet());
+
+        // Assert
+        assertEquals(0L, result);
+        verifyNoInteractions(studentRepository);
     }
 
     @Test
     void getTeacherStatistics_NoGrades_ReturnsZeroAverage() {
         // Arrange
-        when(assignmentRepository.findByTeacher_TeacherId(1)).thenReturn(Arrays.asList());
-        when(gradeRepository.countByTeacher(1)).thenReturn(0L);
-        when(gradeRepository.findByTeacher_TeacherId(1)).thenReturn(Arrays.asList());
+        when(assignmentRepository.countByTeacher_TeacherId(1)).thenReturn(0L);
+        when(gradeRepository.countDistinctStudentsByTeacher(1)).thenReturn(0L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_TEACHER, 1))
+                .thenReturn(Optional.empty());
 
         // Act
         TeacherStatistics result = statisticsService.getTeacherStatistics(1);
@@ -213,16 +238,9 @@ class StatisticsServiceTest {
 
     @Test
     void getStudentStatistics_ReturnsCorrectStatistics() {
-        // Arrange
-        List<Grade> grades = Arrays.asList(
-                new Grade(testStudent, testAssignment, 8, "Good"),
-                new Grade(testStudent, testAssignment, 4, "Poor"),
-                new Grade(testStudent, testAssignment, 7, "Good"),
-                new Grade(testStudent, testAssignment, 3, "Failed")
-        );
-
-        when(gradeRepository.countByStudent_StudentId(1)).thenReturn(4L);
-        when(gradeRepository.findByStudentWithDetails(1)).thenReturn(grades);
+        // Arrange: grades 8, 4, 7, 3
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_STUDENT, 1))
+                .thenReturn(Optional.of(new GradeStatistics(GradeStatistics.SCOPE_STUDENT, 1, 4, 22, 2)));
 
         // Act
         StudentStatistics result = statisticsService.getStudentStatistics(1);
@@ -234,15 +252,14 @@ class StatisticsServiceTest {
         assertEquals(2L, result.getPassingGrades()); // Grades >= 5
         assertEquals(2L, result.getFailingGrades()); // Grades < 5
 
-        verify(gradeRepository).countByStudent_StudentId(1);
-        verify(gradeRepository, times(2)).findByStudentWithDetails(1);
+        verifyNoInteractions(gradeRepository);
     }
 
     @Test
     void getStudentStatistics_NoGrades_ReturnsZeros() {
         // Arrange
-        when(gradeRepository.countByStudent_StudentId(1)).thenReturn(0L);
-        when(gradeRepository.findByStudentWithDetails(1)).thenReturn(Arrays.asList());
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_STUDENT, 1))
+                .thenReturn(Optional.empty());
 
         // Act
         StudentStatistics result = statisticsService.getStudentStatistics(1);
@@ -257,15 +274,9 @@ class StatisticsServiceTest {
 
     @Test
     void getStudentStatistics_AllPassingGrades_CorrectCounts() {
-        // Arrange
-        List<Grade> grades = Arrays.asList(
-                new Grade(testStudent, testAssignment, 8, "Good"),
-                new Grade(testStudent, testAssignment, 9, "Excellent"),
-                new Grade(testStudent, testAssignment, 7, "Good")
-        );
-
-        when(gradeRepository.countByStudent_StudentId(1)).thenReturn(3L);
-        when(gradeRepository.findByStudentWithDetails(1)).thenReturn(grades);
+        // Arrange: grades 8, 9, 7
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_STUDENT, 1))
+                .thenReturn(Optional.of(new GradeStatistics(GradeStatistics.SCOPE_STUDENT, 1, 3, 24, 3)));
 
         // Act
         StudentStatistics result = statisticsService.getStudentStatistics(1);
@@ -278,15 +289,10 @@ class StatisticsServiceTest {
     @Test
     void getGroupStatistics_ReturnsCorrectStatistics() {
         // Arrange
-        List<SubjectAssignment> assignments = Arrays.asList(testAssignment, testAssignment);
-
-        Grade grade1 = new Grade(testStudent, testAssignment, 8, "Good");
-        Grade grade2 = new Grade(testStudent, testAssignment, 9, "Excellent");
-        List<Grade> allGrades = Arrays.asList(grade1, grade2);
-
         when(studentRepository.countByGroup_GroupId(1)).thenReturn(25L);
-        when(assignmentRepository.findByGroup_GroupId(1)).thenReturn(assignments);
-        when(gradeRepository.findAll()).thenReturn(allGrades);
+        when(assignmentRepository.countByGroup_GroupId(1)).thenReturn(2L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_GROUP, 1))
+                .thenReturn(Optional.of(new GradeStatistics(GradeStatistics.SCOPE_GROUP, 1, 2, 17, 2)));
 
         // Act
         GroupStatistics result = statisticsService.getGroupStatistics(1);
@@ -295,19 +301,20 @@ class StatisticsServiceTest {
         assertNotNull(result);
         assertEquals(25L, result.getStudentCount());
         assertEquals(2L, result.getAssignmentCount());
-        assertEquals(8.5, result.getAverageGrade(), 0.01); // (8+9)/2
+        assertEquals(8.5, result.getAverageGrade(), 0.01);
 
         verify(studentRepository).countByGroup_GroupId(1);
-        verify(assignmentRepository).findByGroup_GroupId(1);
-        verify(gradeRepository).findAll();
+        verify(assignmentRepository).countByGroup_GroupId(1);
+        verifyNoInteractions(gradeRepository);
     }
 
     @Test
     void getGroupStatistics_NoData_ReturnsZeros() {
         // Arrange
         when(studentRepository.countByGroup_GroupId(1)).thenReturn(0L);
-        when(assignmentRepository.findByGroup_GroupId(1)).thenReturn(Arrays.asList());
-        when(gradeRepository.findAll()).thenReturn(Arrays.asList());
+        when(assignmentRepository.countByGroup_GroupId(1)).thenReturn(0L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_GROUP, 1))
+                .thenReturn(Optional.empty());
 
         // Act
         GroupStatistics result = statisticsService.getGroupStatistics(1);
@@ -322,30 +329,10 @@ class StatisticsServiceTest {
     @Test
     void getSubjectStatistics_ReturnsCorrectStatistics() {
         // Arrange
-        StudyGroup group1 = new StudyGroup("CS-101", 2024);
-        setGroupId(group1, 1);
-        StudyGroup group2 = new StudyGroup("CS-102", 2024);
-        setGroupId(group2, 2);
-
-        Student student1 = new Student(new User("s1", "pwd", "STUDENT"), "S1", "L1", "s1@test.com");
-        setStudentId(student1, 1);
-        Student student2 = new Student(new User("s2", "pwd", "STUDENT"), "S2", "L2", "s2@test.com");
-        setStudentId(student2, 2);
-
-        group1.setStudents(Arrays.asList(student1));
-        group2.setStudents(Arrays.asList(student2));
-
-        SubjectAssignment assignment1 = new SubjectAssignment(testSubject, testTeacher, group1, "2024/2025", "Fall");
-        SubjectAssignment assignment2 = new SubjectAssignment(testSubject, testTeacher, group2, "2024/2025", "Fall");
-        List<SubjectAssignment> assignments = Arrays.asList(assignment1, assignment2);
-
-        Grade grade1 = new Grade(student1, assignment1, 8, "Good");
-        Grade grade2 = new Grade(student1, assignment1, 7, "Good");
-        Grade grade3 = new Grade(student2, assignment2, 9, "Excellent");
-        List<Grade> allGrades = Arrays.asList(grade1, grade2, grade3);
-
-        when(assignmentRepository.findBySubject_SubjectId(1)).thenReturn(assignments);
-        when(gradeRepository.findAll()).thenReturn(allGrades);
+        when(assignmentRepository.countBySubject_SubjectId(1)).thenReturn(2L);
+        when(studentRepository.countBySubject(1)).thenReturn(2L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_SUBJECT, 1))
+                .thenReturn(Optional.of(new GradeStatistics(GradeStatistics.SCOPE_SUBJECT, 1, 3, 24, 3)));
 
         // Act
         SubjectStatistics result = statisticsService.getSubjectStatistics(1);
@@ -353,19 +340,22 @@ class StatisticsServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2L, result.getAssignmentCount());
-        assertEquals(2L, result.getStudentCount()); // 2 unique students
+        assertEquals(2L, result.getStudentCount());
         assertEquals(3L, result.getGradeCount());
-        assertEquals(8.0, result.getAverageGrade(), 0.01); // (8+7+9)/3
+        assertEquals(8.0, result.getAverageGrade(), 0.01);
 
-        verify(assignmentRepository, times(2)).findBySubject_SubjectId(1);
-        verify(gradeRepository, times(2)).findAll();
+        verify(assignmentRepository).countBySubject_SubjectId(1);
+        verify(studentRepository).countBySubject(1);
+        verifyNoInteractions(gradeRepository);
     }
 
     @Test
     void getSubjectStatistics_NoData_ReturnsZeros() {
         // Arrange
-        when(assignmentRepository.findBySubject_SubjectId(1)).thenReturn(Arrays.asList());
-        when(gradeRepository.findAll()).thenReturn(Arrays.asList());
+        when(assignmentRepository.countBySubject_SubjectId(1)).thenReturn(0L);
+        when(studentRepository.countBySubject(1)).thenReturn(0L);
+        when(gradeStatisticsRepository.findByScopeAndScopeId(GradeStatistics.SCOPE_SUBJECT, 1))
+                .thenReturn(Optional.empty());
 
         // Act
         SubjectStatistics result = statisticsService.getSubjectStatistics(1);
@@ -381,15 +371,14 @@ class StatisticsServiceTest {
     @Test
     void getGradeDistribution_ReturnsCorrectDistribution() {
         // Arrange
-        List<Grade> grades = Arrays.asList(
-                new Grade(testStudent, testAssignment, 8, "Good"),
-                new Grade(testStudent, testAssignment, 8, "Good"),
-                new Grade(testStudent, testAssignment, 9, "Excellent"),
-                new Grade(testStudent, testAssignment, 5, "Pass"),
-                new Grade(testStudent, testAssignment, 3, "Fail")
+        List<GradeValueCount> buckets = Arrays.asList(
+                new GradeValueCount(3, 1L),
+                new GradeValueCount(5, 1L),
+                new GradeValueCount(8, 2L),
+                new GradeValueCount(9, 1L)
         );
 
-        when(gradeRepository.findAll()).thenReturn(grades);
+        when(gradeRepository.countByGradeValue(null, null, null, null, null)).thenReturn(buckets);
 
         // Act
         Map<Integer, Long> result = statisticsService.getGradeDistribution();
@@ -404,13 +393,14 @@ class StatisticsServiceTest {
         assertEquals(1L, result.get(9));
         assertEquals(0L, result.get(10));
 
-        verify(gradeRepository).findAll();
+        verify(gradeRepository).countByGradeValue(null, null, null, null, null);
+        verify(gradeRepository, never()).findAll();
     }
 
     @Test
     void getGradeDistribution_NoGrades_ReturnsZeros() {
         // Arrange
-        when(gradeRepository.findAll()).thenReturn(Arrays.asList());
+        when(gradeRepository.countByGradeValue(null, null, null, null, null)).thenReturn(Arrays.asList());
 
         // Act
         Map<Integer, Long> result = statisticsService.getGradeDistribution();
@@ -426,13 +416,8 @@ class StatisticsServiceTest {
     @Test
     void getGradeDistribution_AllSameGrade_CorrectDistribution() {
         // Arrange
-        List<Grade> grades = Arrays.asList(
-                new Grade(testStudent, testAssignment, 10, "Perfect"),
-                new Grade(testStudent, testAssignment, 10, "Perfect"),
-                new Grade(testStudent, testAssignment, 10, "Perfect")
-        );
-
-        when(gradeRepository.findAll()).thenReturn(grades);
+        when(gradeRepository.countByGradeValue(null, null, null, null, null))
+                .thenReturn(List.of(new GradeValueCount(10, 3L)));
 
         // Act
         Map<Integer, Long> result = statisticsService.getGradeDistribution();
@@ -442,4 +427,41 @@ class StatisticsServiceTest {
         assertEquals(0L, result.get(9));
         assertEquals(0L, result.get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGradeHistogram_WithFilters_PassesFiltersAndComputesPercentages() {
+        // Arrange
+        when(gradeRepository.countByGradeValue("2024/2025", "Fall", 1, 2, 3))
+                .thenReturn(Arrays.asList(
+                        new GradeValueCount(6, 1L),
+                        new GradeValueCount(10, 3L)
+                ));
+
+        // Act
+        GradeHistogram result = statisticsService.getGradeHistogram("2024/2025", "Fall", 1, 2, 3);
+
+        // Assert
+        assertEquals(4L, result.getTotal());
+        assertEquals(3L, result.getCount(10));
+        assertEquals(75.0, result.getPercentage(10));
+        assertEquals(25.0, result.getPercentage(6));
+        assertEquals(0.0, result.getPercentage(0));
+    }
+
+    @Test
+    void getGradeHistogram_OutOfRangeValue_IsIgnored() {
+        // Arrange
+        when(gradeRepository.countByGradeValue(null, null, null, null, null))
+                .thenReturn(Arrays.asList(
+                        new GradeValueCount(7, 2L),
+                        new GradeValueCount(12, 1L)
+                ));
+
+        // Act
+        GradeHistogram result = statisticsService.getGradeHistogram(null, null, null, null, null);
+
+        // Assert
+        assertEquals(2L, result.getTotal());
+        assertEquals(2L, result.getCount(7));
+    }
+}
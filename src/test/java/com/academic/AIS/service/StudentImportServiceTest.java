@@ -0,0 +1,149 @@
+package com.academic.AIS.service;
+
+import com.academic.AIS.dto.response.StudentImportResponse;
+import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.Student;
+import com.academic.AIS.model.StudyGroup;
+import com.academic.AIS.model.User;
+import com.academic.AIS.repository.StudentRepository;
+import com.academic.AIS.repository.StudyGroupRepository;
+import com.academic.AIS.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudyGroupRepository studyGroupRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentImportService studentImportService;
+
+    private StudyGroup testGroup;
+
+    @BeforeEach
+    void setUp() {
+        studentImportService = new StudentImportService(userRepository, studentRepository, studyGroupRepository,
+                passwordEncoder, Runnable::run, transactionManager);
+        testGroup = new StudyGroup("CS-101", 2024);
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importStudents_ValidRows_InsertsAllInOneBatch() throws IOException {
+        when(userRepository.findExistingUsernames(any())).thenReturn(List.of());
+        when(studentRepository.findExistingEmails(any())).thenReturn(List.of());
+        when(studyGroupRepository.findByGroupNameIn(any())).thenReturn(List.of(testGroup));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+
+        StudentImportResponse result = studentImportService.importStudents(csv(
+                "first_name,last_name,email,group_name\n" +
+                "Alice,Smith,alice@example.com,CS-101\n" +
+                "\"Bob\",\"O'Neil, Jr\",bob@example.com,\n"));
+
+        assertEquals(2, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getFailed());
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Student>> students = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(users.capture());
+        verify(studentRepository).saveAll(students.capture());
+        assertEquals("alice", users.getValue().get(0).getUsername());
+        assertEquals("hashed-O'Neil, Jr", users.getValue().get(1).getPassword());
+        assertSame(testGroup, students.getValue().get(0).getGroup());
+        assertNull(students.getValue().get(1).getGroup());
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void importStudents_InvalidRows_ReportsEachWithLineNumber() throws IOException {
+        when(userRepository.findExistingUsernames(any())).thenReturn(List.of("carol"));
+        when(studentRepository.findExistingEmails(any())).thenReturn(List.of("dave@example.com"));
+        when(studyGroupRepository.findByGroupNameIn(any())).thenReturn(List.of());
+        when(passwordEncoder.encode("Smith")).thenReturn("hashed");
+
+        StudentImportResponse result = studentImportService.importStudents(csv(
+                "email,first_name,last_name,group_name\n" +
+                "alice@example.com,Alice,Smith,\n" +
+                "alice2@example.com,alice,Jones,\n" +
+                "carol@example.com,Carol,White,\n" +
+                "dave@example.com,Dave,Black,\n" +
+                "erin@example.com,Erin,,\n" +
+                "frank@example.com,Frank,Green,NO-SUCH-GROUP\n"));
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getFailed());
+        assertEquals(List.of(3, 4, 5, 6, 7),
+                result.getErrors().stream().map(error -> error.getLine()).toList());
+        assertTrue(result.getErrors().get(0).getMessage().contains("more than once"));
+        assertTrue(result.getErrors().get(1).getMessage().contains("already exists"));
+        assertEquals("Email already exists", result.getErrors().get(2).getMessage());
+        assertEquals("Last name is required", result.getErrors().get(3).getMessage());
+        assertEquals("Group 'NO-SUCH-GROUP' not found", result.getErrors().get(4).getMessage());
+        verify(passwordEncoder, times(1)).encode(anyString());
+    }
+
+    @Test
+    void importStudents_NothingValid_SkipsInsert() throws IOException {
+        StudentImportResponse result = studentImportService.importStudents(csv(
+                "first_name,last_name,email\n" +
+                ",Smith,alice@example.com\n"));
+
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getFailed());
+        verifyNoInteractions(passwordEncoder, transactionManager);
+        verify(userRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void importStudents_MissingRequiredColumn_ThrowsValidationException() {
+        assertThrows(ValidationException.class,
+                () -> studentImportService.importStudents(csv("first_name,email\nAlice,alice@example.com\n")));
+    }
+
+    @Test
+    void importStudents_EmptyFile_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> studentImportService.importStudents(csv("")));
+    }
+
+    @Test
+    void parseLine_HandlesQuotedCommasAndEscapedQuotes() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""),
+                StudentImportService.parseLine("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+}
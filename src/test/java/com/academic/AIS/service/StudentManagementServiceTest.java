@@ -1,21 +1,28 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.pagination.CursorPage;
+import com.academic.AIS.dto.pagination.KeysetCursor;
 import com.academic.AIS.dto.request.CreateStudentRequest;
 import com.academic.AIS.dto.response.StudentResponse;
 import com.academic.AIS.dto.mapper.StudentMapper;
 import com.academic.AIS.exception.ResourceNotFoundException;
+import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.Student;
 import com.academic.AIS.model.StudyGroup;
 import com.academic.AIS.model.User;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.StudentRepository;
 import com.academic.AIS.repository.StudyGroupRepository;
 import com.academic.AIS.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +51,9 @@ class StudentManagementServiceTest {
     @Mock
     private StudentMapper studentMapper;
 
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private StudentManagementService studentManagementService;
 
@@ -225,8 +235,10 @@ class StudentManagementServiceTest {
         studentManagementService.deleteStudent(1);
 
 
-        verify(studentRepository).existsById(1);
-        verify(studentRepository).deleteById(1);
+        InOrder inOrder = inOrder(gradeStatisticsRepository, studentRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfStudent(1);
+        inOrder.verify(gradeStatisticsRepository).deleteScope(GradeStatistics.SCOPE_STUDENT, 1);
+        inOrder.verify(studentRepository).deleteById(1);
         verify(userRepository).deleteById(1);
     }
 
@@ -264,6 +276,47 @@ class StudentManagementServiceTest {
         verify(studentMapper, times(2)).toResponse(any(Student.class));
     }
 
+    @Test
+    void getStudentPage_MoreRowsThanLimit_ReturnsCursorOfLastItem() {
+        when(studentRepository.findFirstPage(any(Pageable.class)))
+                .thenReturn(Arrays.asList(testStudent, testStudent, testStudent));
+        when(studentMapper.toResponse(any(Student.class))).thenReturn(testResponse);
+
+        CursorPage<StudentResponse> result = studentManagementService.getStudentPage(null, 2, "asc");
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(KeysetCursor.encode("Doe", "John", 1), result.getNextCursor());
+        verify(studentRepository).findFirstPage(argThat(pageable -> pageable.getPageSize() == 3));
+        verify(studentRepository, never()).findPageAfter(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void getStudentPage_WithCursorDescending_SeeksBeforeCursor() {
+        String cursor = KeysetCursor.encode("Doe", "John", 1);
+        when(studentRepository.findPageBefore(eq("Doe"), eq("John"), eq(1), any(Pageable.class)))
+                .thenReturn(List.of(testStudent));
+        when(studentMapper.toResponse(any(Student.class))).thenReturn(testResponse);
+
+        CursorPage<StudentResponse> result = studentManagementService.getStudentPage(cursor, 2, "desc");
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(studentRepository, never()).findFirstPageDescending(any(Pageable.class));
+    }
+
+    @Test
+    void getStudentPage_MalformedCursor_ThrowsValidationException() {
+        assertThrows(ValidationException.class,
+                () -> studentManagementService.getStudentPage("not-a-cursor", null, "asc"));
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void getStudentPage_LimitTooLarge_ThrowsValidationException() {
+        assertThrows(ValidationException.class,
+                () -> studentManagementService.getStudentPage(null, 1000, "asc"));
+    }
+
     @Test
     void getStudentById_ValidId_ReturnsStudent() {
 
@@ -1,13 +1,17 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.SubjectSummary;
 import com.academic.AIS.exception.DuplicateResourceException;
 import com.academic.AIS.exception.ResourceNotFoundException;
 import com.academic.AIS.exception.ValidationException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.Subject;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.SubjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +30,9 @@ class SubjectManagementServiceTest {
     @Mock
     private SubjectRepository subjectRepository;
 
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private SubjectManagementService subjectManagementService;
 
@@ -199,8 +206,10 @@ class SubjectManagementServiceTest {
         subjectManagementService.deleteSubject(1);
 
 
-        verify(subjectRepository).existsById(1);
-        verify(subjectRepository).deleteById(1);
+        InOrder inOrder = inOrder(gradeStatisticsRepository, subjectRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfSubject(1);
+        inOrder.verify(gradeStatisticsRepository).deleteScope(GradeStatistics.SCOPE_SUBJECT, 1);
+        inOrder.verify(subjectRepository).deleteById(1);
     }
 
     @Test
@@ -222,19 +231,21 @@ class SubjectManagementServiceTest {
     @Test
     void getAllSubjects_ReturnsSubjectList() {
 
-        List<Subject> subjects = Arrays.asList(
-                testSubject,
-                new Subject("Physics", "PHYS101", 4, "Basic Physics")
+        List<SubjectSummary> subjects = Arrays.asList(
+                new SubjectSummary(1, "Mathematics", "MATH101", 5, "Jane", "Smith", "CS-101", "2024/2025"),
+                new SubjectSummary(2, "Physics", "PHYS101", 4, null, null, null, null)
         );
-        when(subjectRepository.findAll()).thenReturn(subjects);
+        when(subjectRepository.findAllSummaries()).thenReturn(subjects);
 
 
-        List<Subject> result = subjectManagementService.getAllSubjects();
+        List<SubjectSummary> result = subjectManagementService.getAllSubjects();
 
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(subjectRepository).findAll();
+        assertEquals("Jane Smith", result.get(0).getTeacherName());
+        assertNull(result.get(1).getTeacherName());
+        verify(subjectRepository).findAllSummaries();
     }
 
     @Test
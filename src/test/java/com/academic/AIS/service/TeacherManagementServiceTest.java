@@ -1,16 +1,20 @@
 package com.academic.AIS.service;
 
+import com.academic.AIS.dto.projection.TeacherSummary;
 import com.academic.AIS.exception.ResourceNotFoundException;
+import com.academic.AIS.model.GradeStatistics;
 import com.academic.AIS.model.SubjectAssignment;
 import com.academic.AIS.model.Teacher;
 import com.academic.AIS.model.User;
 import com.academic.AIS.repository.GradeRepository;
+import com.academic.AIS.repository.GradeStatisticsRepository;
 import com.academic.AIS.repository.SubjectAssignmentRepository;
 import com.academic.AIS.repository.TeacherRepository;
 import com.academic.AIS.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,6 +46,9 @@ class TeacherManagementServiceTest {
     @Mock
     private GradeRepository gradeRepository;
 
+    @Mock
+    private GradeStatisticsRepository gradeStatisticsRepository;
+
     @InjectMocks
     private TeacherManagementService teacherManagementService;
 
@@ -117,8 +124,10 @@ class TeacherManagementServiceTest {
         teacherManagementService.deleteTeacher(1);
 
 
-        verify(teacherRepository).existsById(1);
-        verify(teacherRepository).deleteById(1);
+        InOrder inOrder = inOrder(gradeStatisticsRepository, teacherRepository);
+        inOrder.verify(gradeStatisticsRepository).subtractGradesOfTeacher(1);
+        inOrder.verify(gradeStatisticsRepository).deleteScope(GradeStatistics.SCOPE_TEACHER, 1);
+        inOrder.verify(teacherRepository).deleteById(1);
         verify(userRepository).deleteById(1);
     }
 
@@ -142,20 +151,20 @@ class TeacherManagementServiceTest {
     @Test
     void getAllTeachers_ReturnsTeacherList() {
 
-        Teacher teacher2 = new Teacher(
-                new User("john", "pwd", "TEACHER"),
-                "John", "Doe", "john@example.com"
+        List<TeacherSummary> teachers = Arrays.asList(
+                new TeacherSummary(1, "Jane", "Smith", "jane@example.com", "jane"),
+                new TeacherSummary(2, "John", "Doe", "john@example.com", "john")
         );
-        List<Teacher> teachers = Arrays.asList(testTeacher, teacher2);
-        when(teacherRepository.findAll()).thenReturn(teachers);
+        when(teacherRepository.findAllSummaries()).thenReturn(teachers);
 
 
-        List<Teacher> result = teacherManagementService.getAllTeachers();
+        List<TeacherSummary> result = teacherManagementService.getAllTeachers();
 
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(teacherRepository).findAll();
+        assertEquals("John Doe", result.get(1).getFullName());
+        verify(teacherRepository).findAllSummaries();
     }
 
     @Test